@@ -0,0 +1,155 @@
+package com.example.linkid.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 Executor 부하 비교 - 플랫폼 스레드 모드 vs 가상 스레드 모드 (analysis.executor.virtual-threads)
+ * 로컬 대역 서버가 응답을 latencyMs 만큼 늦게 보내 Clova 동기 STT(completion=sync) 대기를 흉내 내고,
+ * 각 작업은 실제 파이프라인처럼 WebClient 호출을 block() 으로 기다립니다.
+ * 한 번의 측정은 concurrency 개의 분석을 모두 끝내는 데 걸린 시간이며,
+ * Executor 가 거절한 작업은 작업 큐 재점유처럼 잠시 뒤 다시 제출합니다.
+ * 측정 중 최대 OS(플랫폼) 스레드 수는 각 반복 종료 시 출력합니다.
+ *
+ * ./gradlew jmh -Pjmh.includes=AnalysisExecutorLoadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AnalysisExecutorLoadBenchmark {
+
+    private static final long REJECTED_RETRY_MILLIS = 50;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"100", "1000"})
+    private int concurrency;
+
+    @Param({"500"})
+    private int latencyMs;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private AsyncTaskExecutor executor;
+    private WebClient webClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // 대역 서버 - 서버 쪽 스레드가 병목이 되지 않도록 요청마다 가상 스레드로 처리
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(serverExecutor);
+        server.createContext("/recognizer/url", exchange -> {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"result\":\"COMPLETED\",\"segments\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        webClient = WebClient.create("http://127.0.0.1:" + server.getAddress().getPort());
+        executor = analysisExecutor("virtual".equals(mode));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (executor instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeak() {
+        threads.resetPeakThreadCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printPeak() {
+        System.out.printf("%n[%s, concurrency=%d] peak threads=%d%n", mode, concurrency, threads.getPeakThreadCount());
+    }
+
+    @Benchmark
+    public void analyses() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            submit(() -> {
+                try {
+                    webClient.post().uri("/recognizer/url")
+                            .retrieve()
+                            .bodyToMono(String.class)
+                            .block();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void submit(Runnable task) throws InterruptedException {
+        while (true) {
+            try {
+                executor.execute(task);
+                return;
+            } catch (TaskRejectedException e) {
+                Thread.sleep(REJECTED_RETRY_MILLIS);
+            }
+        }
+    }
+
+    // AsyncConfig 의 기본값(core 4 / max 8 / queue 50, 가상 스레드 상한 1000)으로 실제 Bean 생성 경로를 사용
+    private AsyncTaskExecutor analysisExecutor(boolean virtualThreads) throws Exception {
+        AsyncConfig config = new AsyncConfig();
+        set(config, "coreSize", 4);
+        set(config, "maxSize", 8);
+        set(config, "queueCapacity", 50);
+        set(config, "virtualThreads", virtualThreads);
+        set(config, "virtualMaxSize", 1000);
+
+        AsyncTaskExecutor executor = config.analysisExecutor(new SimpleMeterRegistry());
+        if (executor instanceof InitializingBean initializing) {
+            initializing.afterPropertiesSet();
+        }
+        return executor;
+    }
+
+    private static void set(AsyncConfig config, String name, Object value) throws ReflectiveOperationException {
+        Field field = AsyncConfig.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(config, value);
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.Video;
+import com.example.linkid.domain.VideoStatus;
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.dto.SttTranscript;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 블로킹 / 리액티브 파이프라인 비교 - analyses 건의 분석을 동시에 시작해 모두 끝내는 데 걸린 시간
+ * STT 와 AI 요청은 latencyMs 만큼 걸리는 대역으로 대체합니다 (블로킹 경로는 스레드를 잡고 대기, 리액티브 경로는 타이머).
+ * 블로킹 경로는 analysis.executor.max-size 기본값(8) 크기의 스레드 풀에서 실행합니다.
+ * DB 단계는 대역이므로 두 경로의 차이는 외부 호출 대기 방식에서만 생깁니다.
+ *
+ * ./gradlew jmh -Pjmh.includes=AnalysisPipelineModeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class AnalysisPipelineModeBenchmark {
+
+    private static final int BLOCKING_THREADS = 8;
+
+    @Param({"blocking", "reactive"})
+    private String mode;
+
+    @Param({"64"})
+    private int analyses;
+
+    @Param({"100"})
+    private int latencyMs;
+
+    private final AtomicInteger failures = new AtomicInteger();
+    private AsyncAnalysisService blocking;
+    private ReactiveAnalysisPipeline reactive;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        SttTranscript transcript = new SttTranscript("COMPLETED", null, List.of());
+        AnalysisPipelineSupport pipeline = new StubPipeline(failures);
+        ObjectStorageService objectStorageService = new ObjectStorageService(null) {
+            @Override
+            public String generatePresignedDownloadUrl(String bucketKey) {
+                return "https://example.com/" + bucketKey;
+            }
+        };
+        ClovaSpeechService clovaSpeechService = new ClovaSpeechService(null, null, null, null) {
+            @Override
+            public SttTranscript recognizeSpeechFromUrl(String mediaUrl) {
+                sleep();
+                return transcript;
+            }
+
+            @Override
+            public Mono<SttTranscript> recognizeSpeechMono(String mediaUrl) {
+                return Mono.delay(Duration.ofMillis(latencyMs)).thenReturn(transcript);
+            }
+        };
+        AiAnalysisService aiAnalysisService = new AiAnalysisService(null, null) {
+            @Override
+            public String requestAnalysis(AiApiDto.AnalyzeRequest request) {
+                sleep();
+                return "exec";
+            }
+
+            @Override
+            public Mono<String> requestAnalysisMono(AiApiDto.AnalyzeRequest request) {
+                return Mono.delay(Duration.ofMillis(latencyMs)).thenReturn("exec");
+            }
+        };
+
+        blocking = new AsyncAnalysisService(clovaSpeechService, objectStorageService, aiAnalysisService,
+                null, pipeline);
+        reactive = new ReactiveAnalysisPipeline(clovaSpeechService, objectStorageService, aiAnalysisService,
+                null, pipeline);
+        set(reactive, "sttTimeoutMinutes", 30L);
+        set(reactive, "aiRequestTimeoutSeconds", 120L);
+        set(reactive, "maxInflight", analyses);
+    }
+
+    @TearDown(Level.Trial)
+    public void checkFailures() {
+        if (failures.get() > 0) {
+            throw new IllegalStateException("분석 실패 " + failures.get() + "건");
+        }
+    }
+
+    @Benchmark
+    public void analyses() throws InterruptedException {
+        if ("reactive".equals(mode)) {
+            Flux.range(1, analyses)
+                    .flatMap(id -> reactive.process(id.longValue()))
+                    .blockLast(Duration.ofSeconds(60));
+            return;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(BLOCKING_THREADS);
+        for (long id = 1; id <= analyses; id++) {
+            long videoId = id;
+            pool.execute(() -> blocking.processVideoAsync(videoId));
+        }
+        pool.shutdown();
+        if (!pool.awaitTermination(60, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("블로킹 파이프라인이 60초 안에 끝나지 않았습니다.");
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    // DB 단계 대역 - 상태 저장은 모두 성공, 저장된 STT 결과와 캐시는 없음
+    private static final class StubPipeline extends AnalysisPipelineSupport {
+
+        private final AtomicInteger failures;
+
+        private StubPipeline(AtomicInteger failures) {
+            super(null, null, null, null, null, new SimpleMeterRegistry(), null, null, null, null, null, null);
+            this.failures = failures;
+        }
+
+        @Override
+        public Video loadVideo(Long videoId) {
+            Video video = new Video();
+            video.setVideoId(videoId);
+            video.setChildId(1L);
+            video.setBucketKey("user-1/" + videoId + ".mp4");
+            return video;
+        }
+
+        @Override
+        public SttTranscript storedSttResult(Video video) {
+            return null;
+        }
+
+        @Override
+        public SttTranscript cachedSttResult(Video video) {
+            return null;
+        }
+
+        @Override
+        public boolean markSttProcessing(Video video) {
+            return true;
+        }
+
+        @Override
+        public boolean markSttCompleted(Video video, SttTranscript sttResult) {
+            return true;
+        }
+
+        @Override
+        public AiApiDto.AnalyzeRequest buildAnalyzeRequest(Video video, SttTranscript sttResult) {
+            return AiApiDto.AnalyzeRequest.builder().utterancesKo(sttResult.getUtterances()).build();
+        }
+
+        @Override
+        public boolean markAiRequested(Video video, String executionId) {
+            return true;
+        }
+
+        @Override
+        public void handleFailure(Long videoId, VideoStatus ownedStatus, Throwable e) {
+            failures.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.AnalysisReportContent;
+import com.example.linkid.domain.ReportContentFormat;
+import com.example.linkid.dto.AiApiDto;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리포트 상세 내용 저장 형식 비교 - 텍스트 JSON vs Smile 바이너리 (읽기/쓰기 시간, 저장 크기)
+ * 기본은 report-content-sample.json 을 사용하며, 실제 리포트로 측정하려면
+ * analysis_report_content.content 한 건을 파일로 받아 -Preport.payload=<경로> 로 지정합니다.
+ * 저장 크기는 Setup 에서 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportContentEncodingBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final ReportContentCodec codec = new ReportContentCodec(objectMapper);
+
+    private AiApiDto.AiResult result;
+    private AnalysisReportContent json;
+    private AnalysisReportContent smile;
+
+    @Setup
+    public void setUp() throws IOException {
+        result = objectMapper.readValue(samplePayload(), AiApiDto.AiResult.class);
+
+        json = new AnalysisReportContent();
+        int jsonBytes = codec.write(json, result, ReportContentFormat.JSON);
+        smile = new AnalysisReportContent();
+        int smileBytes = codec.write(smile, result, ReportContentFormat.SMILE);
+
+        System.out.printf("%nstorage: json=%d bytes, smile=%d bytes (%.1f%%)%n",
+                jsonBytes, smileBytes, smileBytes * 100.0 / jsonBytes);
+    }
+
+    @Benchmark
+    public AiApiDto.AiResult readJson() throws IOException {
+        return codec.decode(json);
+    }
+
+    @Benchmark
+    public AiApiDto.AiResult readSmile() throws IOException {
+        return codec.decode(smile);
+    }
+
+    @Benchmark
+    public int writeJson() {
+        return codec.write(new AnalysisReportContent(), result, ReportContentFormat.JSON);
+    }
+
+    @Benchmark
+    public int writeSmile() {
+        return codec.write(new AnalysisReportContent(), result, ReportContentFormat.SMILE);
+    }
+
+    private byte[] samplePayload() throws IOException {
+        String path = System.getProperty("report.payload");
+        if (path != null) {
+            return Files.readAllBytes(Path.of(path));
+        }
+        try (InputStream in = getClass().getResourceAsStream("/report-content-sample.json")) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.linkid.service;
+
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.dto.SttTranscript;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clova 응답 처리 비교 - 기존(String -> readTree -> toString -> 트리 순회) vs 토큰 단위 파싱
+ * 10/60/120분 분량의 합성 응답(약 4초당 1개 segment, words 포함)을 사용합니다.
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm(B/op) 로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SttTranscriptParseBenchmark {
+
+    @Param({"10", "60", "120"})
+    private int minutes;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SttTranscriptCodec codec = new SttTranscriptCodec(objectMapper);
+    private byte[] response;
+
+    @Setup
+    public void setUp() throws IOException {
+        response = clovaResponse(minutes * 60 / 4);
+    }
+
+    @Benchmark
+    public List<AiApiDto.Utterance> treeModel() throws IOException {
+        String body = new String(response, StandardCharsets.UTF_8);
+        JsonNode tree = objectMapper.readTree(body);
+        String stored = tree.toString();
+
+        List<AiApiDto.Utterance> utterances = new ArrayList<>();
+        for (JsonNode seg : tree.path("segments")) {
+            utterances.add(new AiApiDto.Utterance(
+                    seg.path("speaker").path("name").asText(),
+                    seg.path("text").asText(),
+                    seg.path("start").asInt()));
+        }
+        return stored.isEmpty() ? List.of() : utterances;
+    }
+
+    @Benchmark
+    public byte[] streaming() throws IOException {
+        SttTranscript transcript = codec.parse(new ByteArrayInputStream(response));
+        return codec.encode(transcript);
+    }
+
+    // Clova Speech 동기 응답 형식의 합성 데이터
+    private byte[] clovaResponse(int segments) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeStringField("result", "COMPLETED");
+            gen.writeStringField("message", "Succeeded");
+            gen.writeArrayFieldStart("segments");
+            for (int i = 0; i < segments; i++) {
+                int start = i * 4000;
+                String label = String.valueOf(i % 2 + 1);
+                String text = "아이와 함께 블록을 쌓으면서 이건 무슨 색이야 하고 물어봤어요 " + i;
+
+                gen.writeStartObject();
+                gen.writeNumberField("start", start);
+                gen.writeNumberField("end", start + 3800);
+                gen.writeStringField("text", text);
+                gen.writeNumberField("confidence", 0.93);
+                gen.writeObjectFieldStart("diarization");
+                gen.writeStringField("label", label);
+                gen.writeEndObject();
+                gen.writeObjectFieldStart("speaker");
+                gen.writeStringField("label", label);
+                gen.writeStringField("name", i % 2 == 0 ? "A" : "B");
+                gen.writeBooleanField("edited", false);
+                gen.writeEndObject();
+                gen.writeArrayFieldStart("words");
+                String[] words = text.split(" ");
+                for (int w = 0; w < words.length; w++) {
+                    gen.writeStartArray();
+                    gen.writeNumber(start + w * 300);
+                    gen.writeNumber(start + w * 300 + 280);
+                    gen.writeString(words[w]);
+                    gen.writeEndArray();
+                }
+                gen.writeEndArray();
+                gen.writeStringField("textEdited", text);
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeStringField("text", "");
+            gen.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,9 +1,81 @@
 package com.example.linkid.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
-}
\ No newline at end of file
+
+    public static final String ANALYSIS_EXECUTOR = "analysisExecutor";
+
+    @Value("${analysis.executor.core-size:4}")
+    private int coreSize;
+
+    @Value("${analysis.executor.max-size:8}")
+    private int maxSize;
+
+    @Value("${analysis.executor.queue-capacity:50}")
+    private int queueCapacity;
+
+    // true 면 분석 파이프라인을 가상 스레드에서 실행 (서블릿 요청 스레드는 spring.threads.virtual.enabled 로 별도 전환)
+    @Value("${analysis.executor.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    // 가상 스레드 모드의 동시 실행 상한 (대기 큐 없음) - STT/AI 호출 대기 중에는 OS 스레드를 점유하지 않으므로 크게 잡는다
+    @Value("${analysis.executor.virtual-max-size:1000}")
+    private int virtualMaxSize;
+
+    /**
+     * 영상 분석 파이프라인 전용 Executor
+     * 큐가 가득 차면(가상 스레드 모드는 동시 실행 상한에 닿으면) 작업을 거절(TaskRejectedException)하고,
+     * 호출 측에서 영상을 QUEUED 상태로 남겨 재시도합니다.
+     */
+    @Bean(name = ANALYSIS_EXECUTOR)
+    public AsyncTaskExecutor analysisExecutor(MeterRegistry meterRegistry) {
+        Counter rejectedCounter = Counter.builder("analysis.executor.rejected")
+                .description("분석 Executor 포화로 거절된 작업 수")
+                .register(meterRegistry);
+
+        if (virtualThreads) {
+            // 가상 스레드는 풀링하지 않고 작업마다 생성 - 동시 실행 수만 제한
+            VirtualThreadAnalysisExecutor executor = new VirtualThreadAnalysisExecutor(virtualMaxSize, rejectedCounter);
+            Gauge.builder("analysis.executor.active", executor, VirtualThreadAnalysisExecutor::getActiveCount)
+                    .description("분석 Executor 실행 중 스레드 수")
+                    .register(meterRegistry);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("analysis-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejectedCounter.increment();
+            throw new RejectedExecutionException(
+                    "분석 Executor 포화: active=" + pool.getActiveCount() + ", queued=" + pool.getQueue().size());
+        });
+
+        // 실시간 큐 적재량 / 실행 중인 작업 수
+        Gauge.builder("analysis.executor.queue.depth", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("분석 Executor 대기 큐 길이")
+                .register(meterRegistry);
+        Gauge.builder("analysis.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("분석 Executor 실행 중 스레드 수")
+                .register(meterRegistry);
+
+        return executor;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.linkid.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * 외부 연동(AI 서버, Clova Speech)별 서킷 브레이커 / 벌크헤드 / 재시도 설정
+ * 연동 대상마다 별도 인스턴스를 두어 한쪽 장애가 다른 쪽 호출 여력을 잠식하지 않도록 합니다.
+ * 상태와 거절 수는 resilience4j.* 메트릭으로 노출됩니다.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    public static final String AI_SERVER = "ai-server";
+    public static final String CLOVA_SPEECH = "clova-speech";
+
+    // 일시적 오류(타임아웃, 연결 실패, 5xx)만 장애 판단 대상으로 삼음
+    public static final Predicate<Throwable> TRANSIENT_ERROR = e -> {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    };
+
+    // 재시도 대상 - 연결 단계 실패(연결 거부, 연결 시간 초과, 호스트 조회 실패)처럼 요청이 상대 서버에 닿지 않은 경우만
+    // 응답 대기 중 타임아웃이나 5xx 는 상대 서버에서 처리(과금)가 이미 진행 중일 수 있으므로 재시도하지 않음
+    public static final Predicate<Throwable> CONNECT_ERROR = e -> {
+        if (!(e instanceof WebClientRequestException)) {
+            return false;
+        }
+        for (Throwable t = e.getCause(); t != null; t = t.getCause()) {
+            if (t instanceof ConnectException || t instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    };
+
+    @Value("${resilience.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${resilience.circuit-breaker.sliding-window-size:20}")
+    private int slidingWindowSize;
+
+    @Value("${resilience.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${resilience.circuit-breaker.open-seconds:30}")
+    private long openSeconds;
+
+    @Value("${resilience.bulkhead.ai-server.max-concurrent:20}")
+    private int aiMaxConcurrent;
+
+    @Value("${resilience.bulkhead.clova-speech.max-concurrent:10}")
+    private int clovaMaxConcurrent;
+
+    @Value("${resilience.retry.max-attempts:3}")
+    private int retryMaxAttempts;
+
+    @Value("${resilience.retry.initial-backoff-ms:1000}")
+    private long retryInitialBackoffMs;
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(Duration.ofSeconds(openSeconds))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(TRANSIENT_ERROR)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        registry.circuitBreaker(AI_SERVER);
+        registry.circuitBreaker(CLOVA_SPEECH);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.of(Map.of(
+                AI_SERVER, bulkheadConfig(aiMaxConcurrent),
+                CLOVA_SPEECH, bulkheadConfig(clovaMaxConcurrent)));
+        registry.bulkhead(AI_SERVER, AI_SERVER);
+        registry.bulkhead(CLOVA_SPEECH, CLOVA_SPEECH);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public RetryRegistry retryRegistry(MeterRegistry meterRegistry) {
+        // 지수 백오프 + 무작위 지터 (동시에 실패한 호출들이 같은 시점에 몰려 재시도하지 않도록)
+        RetryConfig config = RetryConfig.custom()
+                .maxAttempts(retryMaxAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        Duration.ofMillis(retryInitialBackoffMs), 2.0, 0.5))
+                .retryOnException(CONNECT_ERROR)
+                .build();
+
+        RetryRegistry registry = RetryRegistry.of(config);
+        registry.retry(AI_SERVER);
+        registry.retry(CLOVA_SPEECH);
+        TaggedRetryMetrics.ofRetryRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    private BulkheadConfig bulkheadConfig(int maxConcurrent) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrent)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+    }
+}
@@ -42,6 +42,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         // Presigned URL 등 테스트 API 허용 필요시 추가
                         .requestMatchers("/api/v1/videos/presign").permitAll()
+                        // 외부 서버 콜백은 공유 토큰으로 자체 인증
+                        .requestMatchers("/api/v1/callbacks/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
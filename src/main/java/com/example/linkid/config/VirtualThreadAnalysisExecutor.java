@@ -0,0 +1,53 @@
+package com.example.linkid.config;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상 스레드 모드의 분석 Executor - 작업마다 새 가상 스레드를 만들고 풀링하지 않습니다.
+ * 동시 실행 수가 concurrencyLimit 에 닿으면 대기하지 않고 거절(TaskRejectedException)하며, 거절 건수를 기록합니다.
+ */
+public class VirtualThreadAnalysisExecutor extends SimpleAsyncTaskExecutor {
+
+    private final Counter rejectedCounter;
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    public VirtualThreadAnalysisExecutor(int concurrencyLimit, Counter rejectedCounter) {
+        super("analysis-vt-");
+        this.rejectedCounter = rejectedCounter;
+        setVirtualThreads(true);
+        setConcurrencyLimit(concurrencyLimit);
+        setRejectTasksWhenLimitReached(true);
+        // 종료 시 실행 중인 분석을 최대 30초 기다림 (플랫폼 스레드 모드의 awaitTermination 과 동일)
+        setTaskTerminationTimeout(30_000);
+    }
+
+    // execute / submit / @Async 모두 이 메서드를 거침 - 제출 시점부터 종료까지를 실행 중으로 셈
+    @Override
+    @SuppressWarnings("deprecation")
+    public void execute(Runnable task, long startTimeout) {
+        activeCount.incrementAndGet();
+        try {
+            super.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    activeCount.decrementAndGet();
+                }
+            }, startTimeout);
+        } catch (RuntimeException e) {
+            activeCount.decrementAndGet();
+            if (e instanceof TaskRejectedException) {
+                rejectedCounter.increment();
+            }
+            throw e;
+        }
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+}
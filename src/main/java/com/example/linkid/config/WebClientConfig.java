@@ -0,0 +1,116 @@
+package com.example.linkid.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 외부 연동(AI 서버, Clova Speech)용 WebClient
+ * 연동 대상별로 전용 커넥션 풀을 두고 애플리케이션 전체에서 재사용합니다.
+ * 풀 메트릭은 reactor.netty.connection.provider.* (name 태그: ai-server / clova-speech) 로 노출됩니다.
+ */
+@Configuration
+public class WebClientConfig {
+
+    public static final String AI_WEB_CLIENT = "aiWebClient";
+    public static final String CLOVA_WEB_CLIENT = "clovaWebClient";
+
+    @Value("${ai.server.url}")
+    private String aiServerUrl;
+
+    @Value("${ai.server.http.max-connections:50}")
+    private int aiMaxConnections;
+
+    @Value("${ai.server.http.connect-timeout-ms:3000}")
+    private int aiConnectTimeoutMs;
+
+    @Value("${ai.server.http.response-timeout-seconds:30}")
+    private long aiResponseTimeoutSeconds;
+
+    @Value("${ai.server.http.max-in-memory-size:10MB}")
+    private DataSize aiMaxInMemorySize;
+
+    @Value("${ai.server.http.http2:false}")
+    private boolean aiHttp2;
+
+    @Value("${ncloud.clova-speech.invoke-url}")
+    private String clovaInvokeUrl;
+
+    @Value("${ncloud.clova-speech.http.max-connections:20}")
+    private int clovaMaxConnections;
+
+    @Value("${ncloud.clova-speech.http.connect-timeout-ms:3000}")
+    private int clovaConnectTimeoutMs;
+
+    // 동기 STT 는 변환이 끝날 때까지 응답을 보내지 않으므로 길게 잡는다
+    @Value("${ncloud.clova-speech.http.response-timeout-seconds:1800}")
+    private long clovaResponseTimeoutSeconds;
+
+    @Value("${ncloud.clova-speech.http.max-in-memory-size:20MB}")
+    private DataSize clovaMaxInMemorySize;
+
+    @Value("${ncloud.clova-speech.http.http2:false}")
+    private boolean clovaHttp2;
+
+    // 유휴 커넥션 정리 주기 / 최대 유휴 시간 (상대 서버의 keep-alive 종료보다 짧게)
+    @Value("${http.client.max-idle-seconds:30}")
+    private long maxIdleSeconds;
+
+    @Value("${http.client.max-life-minutes:5}")
+    private long maxLifeMinutes;
+
+    @Value("${http.client.pending-acquire-timeout-ms:5000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Bean(name = AI_WEB_CLIENT)
+    public WebClient aiWebClient(WebClient.Builder webClientBuilder) {
+        return build(webClientBuilder, "ai-server", aiServerUrl, aiMaxConnections,
+                aiConnectTimeoutMs, aiResponseTimeoutSeconds, aiMaxInMemorySize, aiHttp2);
+    }
+
+    @Bean(name = CLOVA_WEB_CLIENT)
+    public WebClient clovaWebClient(WebClient.Builder webClientBuilder) {
+        return build(webClientBuilder, "clova-speech", clovaInvokeUrl, clovaMaxConnections,
+                clovaConnectTimeoutMs, clovaResponseTimeoutSeconds, clovaMaxInMemorySize, clovaHttp2);
+    }
+
+    // Boot 가 구성한 Builder(공용 ObjectMapper 코덱 포함)를 복제하여 연동 대상별 설정만 덧씌움
+    private WebClient build(WebClient.Builder webClientBuilder, String name, String baseUrl, int maxConnections,
+                            int connectTimeoutMs, long responseTimeoutSeconds, DataSize maxInMemorySize,
+                            boolean http2) {
+        ConnectionProvider provider = ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(maxConnections * 4)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(maxIdleSeconds))
+                .maxLifeTime(Duration.ofMinutes(maxLifeMinutes))
+                .evictInBackground(Duration.ofSeconds(maxIdleSeconds))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds))
+                .compress(true);
+        if (http2) {
+            // HTTPS(ALPN) 에서 HTTP/2 협상, 불가하면 HTTP/1.1 로 동작
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()))
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.linkid.controller;
+
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.dto.ApiResponse;
+import com.example.linkid.service.AnalysisCallbackService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Callback", description = "외부 분석 서버 콜백 수신")
+@RestController
+@RequestMapping("/api/v1/callbacks")
+@RequiredArgsConstructor
+public class CallbackController {
+
+    private final AnalysisCallbackService analysisCallbackService;
+
+    @Operation(summary = "AI 분석 완료 콜백", description = "AI 서버가 분석 상태(StatusResponse)를 전달합니다. X-Callback-Token 헤더로 인증합니다.")
+    @PostMapping("/ai")
+    public ResponseEntity<ApiResponse<Boolean>> receiveAiResult(
+            @RequestHeader(value = "X-Callback-Token", required = false) String token,
+            @RequestBody AiApiDto.StatusResponse statusResponse) {
+
+        if (!analysisCallbackService.isValidAiToken(token)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponse.error("인증되지 않은 콜백입니다."));
+        }
+
+        boolean applied = analysisCallbackService.handleAiResult(statusResponse);
+        return ResponseEntity.ok(ApiResponse.success(applied, "콜백을 처리했습니다."));
+    }
+
+    @Operation(summary = "Clova STT 완료 콜백", description = "Clova Speech 비동기 인식 결과를 전달받습니다. 요청 시 발급한 URL 서명으로 인증합니다.")
+    @PostMapping("/clova")
+    public ResponseEntity<ApiResponse<Boolean>> receiveClovaResult(
+            @RequestParam Long videoId,
+            @RequestParam String signature,
+            @RequestBody String body) {
+
+        if (!analysisCallbackService.isValidClovaSignature(videoId, signature)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponse.error("인증되지 않은 콜백입니다."));
+        }
+
+        boolean applied = analysisCallbackService.handleClovaResult(videoId, body);
+        return ResponseEntity.ok(ApiResponse.success(applied, "콜백을 처리했습니다."));
+    }
+}
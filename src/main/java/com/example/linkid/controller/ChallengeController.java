@@ -32,6 +32,19 @@ public class ChallengeController {
         return ResponseEntity.ok(ApiResponse.success(response, "챌린지 목록을 조회했습니다."));
     }
 
+    // 목록 페이지 조회 (커서 기반, ?status=COMPLETED or ACTIVE)
+    @Operation(summary = "챌린지 목록 페이지 조회",
+            description = "상태(ACTIVE/COMPLETED)에 따른 챌린지를 최신순으로 size 개씩 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<ChallengeDto.ChallengePageResponse>> getPage(
+            @RequestParam(defaultValue = "ACTIVE") String status,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        ChallengeDto.ChallengePageResponse response = challengeService.getChallengePage(username, status, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response, "챌린지 목록을 조회했습니다."));
+    }
+
     // 상세 조회
     @Operation(summary = "챌린지 상세 조회", description = "챌린지의 상세 정보와 실천 기록을 조회합니다.")
     @GetMapping("/{challengeId}")
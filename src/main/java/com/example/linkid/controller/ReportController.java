@@ -33,6 +33,21 @@ public class ReportController {
         return ResponseEntity.ok(ApiResponse.success(response, "분석 리포트 목록을 조회했습니다."));
     }
 
+    // 목록 페이지 조회 (커서 기반)
+    @Operation(summary = "리포트 목록 페이지 조회",
+            description = "해당 자녀의 분석 리포트를 최신순으로 size 개씩 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<ReportDto.ReportPageResponse>> getReportPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+
+        ReportDto.ReportPageResponse response = reportService.getReportPage(username, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "분석 리포트 목록을 조회했습니다."));
+    }
+
     // 상세 조회
     @Operation(summary = "리포트 상세 조회", description = "특정 리포트의 상세 분석 결과(AI 결과 포함)를 조회합니다.")
     @GetMapping("/{reportId}")
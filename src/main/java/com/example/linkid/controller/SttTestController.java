@@ -1,8 +1,8 @@
 package com.example.linkid.controller;
 
+import com.example.linkid.dto.SttTranscript;
 import com.example.linkid.service.ClovaSpeechService;
 import com.example.linkid.service.ObjectStorageService;
-import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
@@ -38,7 +38,7 @@ public class SttTestController {
     }
 
     @PostMapping("/stt-from-url")
-    public JsonNode testSttFromUrl(@RequestBody Map<String, String> request) {
+    public SttTranscript testSttFromUrl(@RequestBody Map<String, String> request) {
         String objectUrl = request.get("objectUrl");
 
         log.info("STT 테스트 시작 (URL): {}", objectUrl);
@@ -2,15 +2,22 @@ package com.example.linkid.controller;
 
 import com.example.linkid.domain.User;
 import com.example.linkid.repository.UserRepository;
+import com.example.linkid.service.AnalysisAdmissionService;
+import com.example.linkid.service.AnalysisEventService;
 import com.example.linkid.service.VideoAnalysisService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.util.Map;
 
 @Tag(name = "Video", description = "영상 업로드 및 분석")
@@ -20,6 +27,8 @@ import java.util.Map;
 public class VideoController {
 
     private final VideoAnalysisService videoAnalysisService;
+    private final AnalysisEventService analysisEventService;
+    private final AnalysisAdmissionService analysisAdmissionService;
     private final UserRepository userRepository;
 
     // 1. 영상 업로드용 Presigned URL 요청
@@ -52,18 +61,40 @@ public class VideoController {
     }
 
     // 2. 영상 분석 시작 요청
-    @Operation(summary = "영상 분석 시작", description = "업로드가 완료된 영상의 분석(STT 및 AI 분석)을 시작합니다.")
+    @Operation(summary = "영상 분석 시작", description = "업로드가 완료된 영상의 분석(STT 및 AI 분석)을 시작합니다. 요청 한도를 넘으면 429와 Retry-After(초)를 반환합니다.")
     @PostMapping("/{videoId}/start")
     public ResponseEntity<?> startAnalysis(@PathVariable Long videoId) {
-        videoAnalysisService.startAnalysis(videoId);
+        String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        // 이미 대기/진행/완료 중인 영상은 한도를 차감하지 않고 현재 상태만 반환 (중복 클릭 등)
+        if (!videoAnalysisService.isStartable(videoId)) {
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "data", videoAnalysisService.startAnalysis(videoId),
+                    "message", "영상 분석을 시작합니다."
+            ));
+        }
+
+        Duration retryAfter = analysisAdmissionService.admit(currentUsername);
+        if (!retryAfter.isZero()) {
+            long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                    .body(Map.of(
+                            "success", false,
+                            "message", "분석 요청이 너무 많습니다. " + seconds + "초 후 다시 시도해주세요."
+                    ));
+        }
+
+        Map<String, Object> data = videoAnalysisService.startAnalysis(videoId);
+        // 확인 직후 다른 요청이 먼저 시작한 경우 - 차감한 토큰을 되돌림
+        if (!Boolean.TRUE.equals(data.get("started"))) {
+            analysisAdmissionService.refund(currentUsername);
+        }
 
         return ResponseEntity.ok(Map.of(
                 "success", true,
-                "data", Map.of(
-                        "videoId", videoId,
-                        "status", "STT_PROCESSING",
-                        "message", "음성을 텍스트로 변환하는 중입니다"
-                ),
+                "data", data,
                 "message", "영상 분석을 시작합니다."
         ));
     }
@@ -80,4 +111,11 @@ public class VideoController {
                 "message", "분석 상태를 조회했습니다."
         ));
     }
-}
\ No newline at end of file
+
+    // 4. 분석 상태 구독 (SSE)
+    @Operation(summary = "분석 상태 구독 (SSE)", description = "현재 상태를 먼저 보낸 뒤 상태 전이, AI 진행률, 완료 시 리포트 ID를 실시간으로 전송합니다. 분석이 종료되면 연결이 닫힙니다.")
+    @GetMapping(value = "/{videoId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatus(@PathVariable Long videoId) {
+        return analysisEventService.subscribe(videoId, () -> videoAnalysisService.checkStatus(videoId));
+    }
+}
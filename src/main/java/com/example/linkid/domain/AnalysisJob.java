@@ -0,0 +1,47 @@
+package com.example.linkid.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "analysis_job", indexes = {
+        @Index(name = "idx_analysis_job_status_available", columnList = "status, available_at"),
+        @Index(name = "idx_analysis_job_lease", columnList = "lease_owner, status")
+})
+@Getter @Setter
+@NoArgsConstructor
+public class AnalysisJob extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long jobId;
+
+    @Column(nullable = false, unique = true)
+    private Long videoId;
+
+    private Long userId;
+
+    // 예상 처리 비용 (영상 길이, 초) - 스케줄러의 작업 순서 결정에 사용
+    private Integer expectedDurationSeconds;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false, columnDefinition = "varchar(20)")
+    private AnalysisJobStatus status = AnalysisJobStatus.PENDING;
+
+    private int attempts;
+
+    // 작업을 점유한 워커(인스턴스) 식별자와 점유 만료 시각
+    @Column(length = 100)
+    private String leaseOwner;
+    private LocalDateTime leaseUntil;
+    private LocalDateTime heartbeatAt;
+
+    // 재시도 백오프 등으로 이 시각 이후에만 다시 점유 가능
+    private LocalDateTime availableAt = LocalDateTime.now();
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+}
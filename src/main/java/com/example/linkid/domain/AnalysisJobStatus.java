@@ -0,0 +1,11 @@
+package com.example.linkid.domain;
+
+// 분석 작업 상태 (VideoStatus 의 파이프라인 단계와 동일하게 진행)
+public enum AnalysisJobStatus {
+    PENDING,        // 워커 대기
+    STT_PROCESSING, // 워커가 점유하여 STT 진행 중
+    STT_COMPLETED,  // STT 저장 완료, AI 요청 전
+    AI_ANALYZING,   // AI 서버에 위임 완료 (워커 점유 해제)
+    COMPLETED,
+    FAILED
+}
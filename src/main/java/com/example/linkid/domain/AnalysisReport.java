@@ -8,6 +8,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_analysis_report_child", columnList = "child_id, report_id"),
+        @Index(name = "idx_analysis_report_child_created", columnList = "child_id, created_at, report_id")
+})
 @Getter @Setter
 @NoArgsConstructor
 public class AnalysisReport extends BaseTimeEntity {
@@ -15,7 +19,7 @@ public class AnalysisReport extends BaseTimeEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long reportId;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "video_id")
     private Video video;
 
@@ -27,6 +31,5 @@ public class AnalysisReport extends BaseTimeEntity {
     private BigDecimal ndiScore;
     private BigDecimal qiScore;
 
-    @Column(columnDefinition = "TEXT") // JSON 형태로 저장
-    private String content;
+    // 상세 내용(AI 결과 JSON)은 analysis_report_content 테이블에 별도 저장 (AnalysisReportContent)
 }
\ No newline at end of file
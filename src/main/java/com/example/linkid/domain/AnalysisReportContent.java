@@ -0,0 +1,38 @@
+package com.example.linkid.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 리포트 상세 내용 (AI 분석 결과 전체)
+ * 목록/홈 조회가 요약 컬럼만 읽도록 analysis_report 와 물리적으로 분리합니다.
+ * format 에 따라 JSON 은 content, SMILE 은 payload 컬럼에 저장합니다. (format 이 없는 행은 이전 JSON)
+ */
+@Entity
+@Table(name = "analysis_report_content", indexes = {
+        // 형식 변환 배치가 설정 형식이 아닌 행만 reportId 순으로 찾도록
+        @Index(name = "idx_report_content_format", columnList = "format, report_id")
+})
+@Getter @Setter
+@NoArgsConstructor
+public class AnalysisReportContent {
+
+    @Id
+    private Long reportId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private ReportContentFormat format;
+
+    @Column(columnDefinition = "LONGTEXT")
+    private String content;
+
+    @Column(columnDefinition = "LONGBLOB")
+    private byte[] payload;
+
+    public ReportContentFormat getFormat() {
+        return format != null ? format : ReportContentFormat.JSON;
+    }
+}
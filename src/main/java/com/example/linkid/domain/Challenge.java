@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_challenge_child_status", columnList = "child_id, status, challenge_id"))
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Challenge extends BaseTimeEntity {
@@ -0,0 +1,52 @@
+package com.example.linkid.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 아이별 지표 추이 (최근 windowSize 회 기준 이동 평균, 최소/최대, 기울기)
+ * 리포트가 저장될 때마다 GrowthTrendService 가 갱신하며, 조회 시 이력을 다시 읽지 않습니다.
+ * metric: pi / ndi / qi / category:{label}
+ */
+@Entity
+@Table(name = "growth_trend",
+        uniqueConstraints = @UniqueConstraint(name = "uk_growth_trend_child_metric", columnNames = {"child_id", "metric"}))
+@Getter @Setter
+@NoArgsConstructor
+public class GrowthTrend extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long trendId;
+
+    @Column(nullable = false)
+    private Long childId;
+
+    @Column(nullable = false, length = 40)
+    private String metric;
+
+    // 집계 기준 회차 수 (설정이 바뀌면 이력에서 다시 계산)
+    private int windowSize;
+
+    // 전체 누적 회차 수
+    private int sessionCount;
+
+    // 최근 windowSize 회 값 (오래된 순, 쉼표 구분)
+    @Column(length = 2000)
+    private String windowValues;
+
+    private Double latestValue;
+    private Double average;
+    private Double minValue;
+    private Double maxValue;
+    private Double slope; // 회당 변화량
+
+    public static GrowthTrend of(Long childId, String metric, int windowSize) {
+        GrowthTrend trend = new GrowthTrend();
+        trend.setChildId(childId);
+        trend.setMetric(metric);
+        trend.setWindowSize(windowSize);
+        return trend;
+    }
+}
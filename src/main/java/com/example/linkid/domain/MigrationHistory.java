@@ -0,0 +1,27 @@
+package com.example.linkid.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 한 번만 실행하면 되는 기동 시 이관/백필 작업의 완료 기록
+ * 다시 실행해야 하면 해당 행을 지웁니다.
+ */
+@Entity
+@Table(name = "migration_history")
+@Getter @Setter
+@NoArgsConstructor
+public class MigrationHistory extends BaseTimeEntity {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    public static MigrationHistory of(String name) {
+        MigrationHistory history = new MigrationHistory();
+        history.setName(name);
+        return history;
+    }
+}
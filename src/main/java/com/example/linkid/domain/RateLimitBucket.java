@@ -0,0 +1,29 @@
+package com.example.linkid.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 공유 저장소 방식 토큰 버킷 (analysis.rate-limit.store=jdbc)
+ * 여러 인스턴스가 같은 버킷을 행 잠금으로 나눠 씁니다.
+ */
+@Entity
+@Table(name = "rate_limit_bucket")
+@Getter @Setter
+@NoArgsConstructor
+public class RateLimitBucket {
+
+    @Id
+    @Column(length = 100)
+    private String bucketKey;
+
+    // 남은 토큰 (소수점 단위로 누적 충전)
+    @Column(nullable = false)
+    private double tokens;
+
+    // 마지막 충전 계산 시각 (epoch millis)
+    @Column(nullable = false)
+    private long refilledAt;
+}
@@ -0,0 +1,46 @@
+package com.example.linkid.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 리포트별 부모 상호작용 범주 비율 (AiResult.style_analysis.interaction_style.parent_analysis)
+ * 성장 변화량 계산 시 이전 리포트 JSON 을 파싱하지 않고 인덱스 조회로 읽습니다.
+ */
+@Entity
+@Table(name = "report_category_ratio",
+        indexes = @Index(name = "idx_report_category_ratio_child", columnList = "child_id, report_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_report_category_ratio", columnNames = {"report_id", "label"}))
+@Getter @Setter
+@NoArgsConstructor
+public class ReportCategoryRatio {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long ratioId;
+
+    @Column(nullable = false)
+    private Long reportId;
+
+    @Column(nullable = false)
+    private Long childId;
+
+    @Column(nullable = false, length = 20)
+    private String label; // "RD"
+
+    private String name;  // "반영적 듣기"
+
+    @Column(nullable = false)
+    private Double ratio; // 0.20
+
+    public static ReportCategoryRatio of(Long reportId, Long childId, String label, String name, Double ratio) {
+        ReportCategoryRatio categoryRatio = new ReportCategoryRatio();
+        categoryRatio.setReportId(reportId);
+        categoryRatio.setChildId(childId);
+        categoryRatio.setLabel(label);
+        categoryRatio.setName(name);
+        categoryRatio.setRatio(ratio);
+        return categoryRatio;
+    }
+}
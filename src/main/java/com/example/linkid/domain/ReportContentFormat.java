@@ -0,0 +1,7 @@
+package com.example.linkid.domain;
+
+// 리포트 상세 내용 저장 형식
+public enum ReportContentFormat {
+    JSON,   // 텍스트 JSON (content 컬럼)
+    SMILE   // Jackson Smile 바이너리 (payload 컬럼)
+}
@@ -0,0 +1,36 @@
+package com.example.linkid.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 영상 내용 기준 STT 결과 캐시
+ * 같은 객체 내용(ETag + 크기)의 영상은 Clova 변환 없이 저장된 결과를 재사용합니다.
+ */
+@Entity
+@Table(name = "transcript_cache")
+@Getter @Setter
+@NoArgsConstructor
+public class TranscriptCache extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long cacheId;
+
+    // ObjectStorageService.getContentKey 값
+    @Column(nullable = false, unique = true, length = 200)
+    private String contentKey;
+
+    // SttTranscriptCodec 바이너리 형식
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private byte[] payload;
+
+    // 영상 길이(초) - 캐시 적중으로 절약한 STT 시간 집계용
+    private Integer durationSeconds;
+
+    private long hitCount;
+    private LocalDateTime lastHitAt;
+}
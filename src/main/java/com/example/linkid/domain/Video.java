@@ -7,6 +7,10 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_video_status_updated", columnList = "status, status_updated_at"),
+        @Index(name = "idx_video_ai_execution", columnList = "ai_execution_id")
+})
 @Getter @Setter
 @NoArgsConstructor
 public class Video extends BaseTimeEntity {
@@ -27,14 +31,25 @@ public class Video extends BaseTimeEntity {
 
     private Integer duration;
 
+    // MySQL enum 컬럼으로 생성되면 상태 추가 시마다 스키마 변경이 필요하므로 VARCHAR 로 고정
     @Enumerated(EnumType.STRING)
+    @Column(length = 20, columnDefinition = "varchar(20)")
     private VideoStatus status = VideoStatus.UPLOADING;
 
-    @Column(columnDefinition = "TEXT")
-    private String sttResult;
+    // 영상 객체 내용 키 (STT 결과 캐시 조회/저장용)
+    @Column(length = 200)
+    private String contentKey;
+
+    // Clova 비동기 STT 작업 토큰
+    private String sttToken;
 
     private String aiExecutionId;
 
+    // AI 서버 진행 상태 (AiStatusPoller 가 갱신)
+    private String aiDetailStatus;
+    private Integer aiProgress;
+    private String aiStatusMessage;
+
     @Column(columnDefinition = "TEXT")
     private String errorMessage;
 
@@ -2,6 +2,7 @@ package com.example.linkid.domain;
 
 public enum VideoStatus {
     UPLOADING,
+    QUEUED,
     STT_PROCESSING,
     STT_COMPLETED,
     AI_ANALYZING,
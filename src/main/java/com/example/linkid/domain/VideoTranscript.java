@@ -0,0 +1,25 @@
+package com.example.linkid.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 영상별 STT 결과 (SttTranscriptCodec 바이너리 형식)
+ * video 테이블과 분리하여 상태 변경 시 대용량 컬럼을 다시 읽고 쓰지 않도록 합니다.
+ */
+@Entity
+@Table(name = "video_transcript")
+@Getter @Setter
+@NoArgsConstructor
+public class VideoTranscript extends BaseTimeEntity {
+
+    @Id
+    private Long videoId;
+
+    @Column(columnDefinition = "MEDIUMBLOB", nullable = false)
+    private byte[] payload;
+
+    private int utteranceCount;
+}
@@ -1,5 +1,6 @@
 package com.example.linkid.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.AllArgsConstructor;
@@ -20,6 +21,11 @@ public class AiApiDto {
         private List<ChallengeSpec> challengeSpecs;
 
         private MetaData meta;
+
+        // 분석 완료 시 결과(StatusResponse)를 받을 콜백 URL (미설정 시 전송하지 않음)
+        @JsonProperty("callback_url")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String callbackUrl;
     }
 
     @Data
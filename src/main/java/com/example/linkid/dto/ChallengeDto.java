@@ -22,6 +22,16 @@ public class ChallengeDto {
         private String status;
     }
 
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ChallengePageResponse {
+        private List<ChallengeListResponse> challenges;
+        private Long nextCursor; // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+        private boolean hasNext;
+    }
+
     @Data
     @Builder
     @AllArgsConstructor
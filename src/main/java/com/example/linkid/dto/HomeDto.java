@@ -19,6 +19,7 @@ public class HomeDto {
     public static class GrowthReport {
         private List<QiScorePoint> qiScoreHistory;
         private List<PiNdiPoint> piNdiHistory;
+        private List<Trend> trends; // 최근 N회 기준 지표별 추이
     }
 
     @Data
@@ -36,6 +37,18 @@ public class HomeDto {
         private int ndi;
     }
 
+    @Data
+    @Builder
+    public static class Trend {
+        private String metric;   // "pi", "ndi", "qi", "category:RD"
+        private int sessions;    // 전체 누적 회차 수
+        private Double latest;
+        private Double average;  // 이동 평균
+        private Double min;
+        private Double max;
+        private Double slope;    // 회당 변화량
+    }
+
     @Data
     @Builder
     public static class ActiveChallenge {
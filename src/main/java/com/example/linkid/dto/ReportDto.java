@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class ReportDto {
 
@@ -28,6 +29,16 @@ public class ReportDto {
         private BigDecimal ndiScore;
     }
 
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ReportPageResponse {
+        private List<ReportListResponse> reports;
+        private String nextCursor; // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+        private boolean hasNext;
+    }
+
     @Data
     @Builder
     @AllArgsConstructor
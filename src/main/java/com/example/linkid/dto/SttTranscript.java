@@ -0,0 +1,22 @@
+package com.example.linkid.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * STT 결과 요약 모델 - Clova 응답에서 분석에 쓰는 필드(결과 상태, 화자별 발화)만 보관
+ */
+@Getter
+@AllArgsConstructor
+public class SttTranscript {
+
+    private final String result;   // COMPLETED / FAILED (저장본 등 값이 없으면 완료로 간주)
+    private final String message;
+    private final List<AiApiDto.Utterance> utterances;
+
+    public boolean isCompleted() {
+        return result == null || "COMPLETED".equalsIgnoreCase(result);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.linkid.event;
+
+import com.example.linkid.domain.VideoStatus;
+
+// 영상 분석 상태 변화 (상태 전이, AI 진행률 갱신, 완료 시 리포트 ID)
+public record AnalysisStatusChangedEvent(
+        Long videoId,
+        VideoStatus status,
+        String detailStatus,
+        Integer progress,
+        Long reportId
+) {
+    public boolean isTerminal() {
+        return status == VideoStatus.COMPLETED || status == VideoStatus.FAILED;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.linkid.event;
+
+// 홈 화면 데이터 변경 (리포트 저장, 챌린지 생성/상태 변경, 행동 완료) - 아이별 홈 캐시 무효화
+public record HomeDataChangedEvent(
+        Long childId,
+        String reason
+) {
+}
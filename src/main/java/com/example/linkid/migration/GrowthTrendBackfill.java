@@ -0,0 +1,85 @@
+package com.example.linkid.migration;
+
+import com.example.linkid.domain.MigrationHistory;
+import com.example.linkid.repository.MigrationHistoryRepository;
+import com.example.linkid.service.GrowthTrendService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 리포트가 있는 아이의 성장 추이를 이력에서 다시 계산합니다. (집계 기준(analysis.trend.window)별 1회)
+ * 한 인스턴스에서만 실행하고, 실패 없이 끝나면 migration_history 에 기록해 이후 기동에서는 건너뜁니다.
+ * 이후 리포트는 저장 시점에 추이에 반영되고, 기준이 다른 추이는 다음 반영 때 GrowthTrendService 가 다시 계산합니다.
+ * 범주 비율 백필이 아직 끝나지 않았으면 비율이 빠진 추이일 수 있으므로 기록하지 않고 다음 기동에 다시 계산합니다.
+ * (범주 비율 백필(ReportCategoryRatioBackfill) 이후 실행)
+ */
+@Component
+@Order(3)
+@RequiredArgsConstructor
+@Slf4j
+public class GrowthTrendBackfill implements ApplicationRunner {
+
+    private static final String NAME = "growth-trend-backfill";
+    private static final String LOCK_NAME = "linkid.migration." + NAME;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MigrationHistoryRepository historyRepository;
+    private final GrowthTrendService growthTrendService;
+
+    @Value("${analysis.migration.growth-trend.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.trend.window:10}")
+    private int windowSize;
+
+    @Value("${analysis.migration.lock-timeout-seconds:600}")
+    private int lockTimeoutSeconds;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 집계 기준이 바뀌면 새 기준으로 다시 실행
+        String historyName = NAME + ":window-" + windowSize;
+        if (!enabled || historyRepository.existsById(historyName)) {
+            return;
+        }
+
+        boolean ran = MigrationSupport.runExclusively(jdbcTemplate, LOCK_NAME, lockTimeoutSeconds, () -> {
+            // 먼저 잠금을 잡은 인스턴스가 끝냈으면 건너뜀
+            if (!historyRepository.existsById(historyName) && backfill()
+                    && historyRepository.existsById(ReportCategoryRatioBackfill.NAME)) {
+                historyRepository.save(MigrationHistory.of(historyName));
+            }
+        });
+        if (!ran) {
+            log.warn("다른 인스턴스가 성장 추이 백필 중이라 {}초 대기 후 건너뜁니다.", lockTimeoutSeconds);
+        }
+    }
+
+    // 대상 아이를 모두 다시 계산했으면 true
+    private boolean backfill() {
+        List<Long> childIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT child_id FROM analysis_report ORDER BY child_id", Long.class);
+
+        int failed = 0;
+        for (Long childId : childIds) {
+            try {
+                growthTrendService.rebuild(childId);
+            } catch (Exception e) {
+                failed++;
+                log.error("성장 추이 백필 실패: ChildId={}", childId, e);
+            }
+        }
+        if (!childIds.isEmpty()) {
+            log.info("성장 추이 백필 완료: 아이 {}명, 실패 {}명", childIds.size() - failed, failed);
+        }
+        return failed == 0;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.linkid.migration;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// 기동 시 이관 작업 공통 유틸
+final class MigrationSupport {
+
+    private MigrationSupport() {
+    }
+
+    static boolean columnExists(JdbcTemplate jdbcTemplate, String table, String column) {
+        return columnTypeName(jdbcTemplate, table, column) != null;
+    }
+
+    // 컬럼의 DB 타입 이름 (MySQL enum 컬럼은 "ENUM"), 컬럼이 없으면 null
+    static String columnTypeName(JdbcTemplate jdbcTemplate, String table, String column) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // DB 에 따라 식별자 대소문자 저장 방식이 다름 (MySQL 소문자, H2 대문자)
+            for (String[] name : new String[][]{{table, column}, {table.toUpperCase(), column.toUpperCase()}}) {
+                try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, name[0], name[1])) {
+                    if (rs.next()) {
+                        return rs.getString("TYPE_NAME");
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 여러 인스턴스가 동시에 기동해도 한 곳에서만 task 를 실행 (MySQL GET_LOCK - 다른 인스턴스는 끝날 때까지 대기)
+     * 잠금은 세션 단위이므로 잠금을 잡은 커넥션을 task 가 끝날 때까지 들고 있다가 같은 커넥션에서 해제합니다.
+     * MySQL 이 아니면(H2 테스트 등) 잠금 없이 실행합니다.
+     * @return timeoutSeconds 안에 잠금을 얻지 못해 실행하지 않았으면 false
+     */
+    static boolean runExclusively(JdbcTemplate jdbcTemplate, String lockName, int timeoutSeconds, Runnable task) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!supportsNamedLock(connection)) {
+                task.run();
+                return true;
+            }
+            try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+                ps.setString(1, lockName);
+                ps.setInt(2, timeoutSeconds);
+                try (ResultSet rs = ps.executeQuery()) {
+                    // 1: 획득, 0: 대기 시간 초과, NULL(getInt -> 0): 오류
+                    if (!rs.next() || rs.getInt(1) != 1) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                    ps.setString(1, lockName);
+                    ps.executeQuery().close();
+                }
+            }
+        }));
+    }
+
+    private static boolean supportsNamedLock(Connection connection) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName().toLowerCase();
+        return product.contains("mysql") || product.contains("mariadb");
+    }
+}
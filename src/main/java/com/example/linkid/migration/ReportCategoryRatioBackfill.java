@@ -0,0 +1,120 @@
+package com.example.linkid.migration;
+
+import com.example.linkid.domain.MigrationHistory;
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.repository.AnalysisReportContentRepository;
+import com.example.linkid.repository.MigrationHistoryRepository;
+import com.example.linkid.service.ReportCategoryRatioService;
+import com.example.linkid.service.ReportContentCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기존 리포트의 부모 상호작용 범주 비율을 report_category_ratio 로 채웁니다.
+ * 비율 행이 없는 리포트만 reportId 순으로 배치 처리하므로 여러 번 실행해도 안전합니다.
+ * 새 리포트는 완료 시점에 비율이 저장되므로, 실패 없이 끝나면 migration_history 에 기록하고 이후 기동에서는 건너뜁니다.
+ * (리포트 내용 이관(ReportContentMigration) 이후 실행)
+ */
+@Component
+@Order(2)
+@RequiredArgsConstructor
+@Slf4j
+public class ReportCategoryRatioBackfill implements ApplicationRunner {
+
+    static final String NAME = "report-category-ratio-backfill";
+    private static final String LOCK_NAME = "linkid.migration." + NAME;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MigrationHistoryRepository historyRepository;
+    private final AnalysisReportContentRepository contentRepository;
+    private final ReportContentCodec contentCodec;
+    private final ReportCategoryRatioService ratioService;
+
+    @Value("${analysis.migration.category-ratio.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.migration.category-ratio.batch-size:100}")
+    private int batchSize;
+
+    @Value("${analysis.migration.lock-timeout-seconds:600}")
+    private int lockTimeoutSeconds;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || historyRepository.existsById(NAME)) {
+            return;
+        }
+
+        boolean ran = MigrationSupport.runExclusively(jdbcTemplate, LOCK_NAME, lockTimeoutSeconds, () -> {
+            // 먼저 잠금을 잡은 인스턴스가 끝냈으면 건너뜀
+            if (!historyRepository.existsById(NAME) && backfill()) {
+                historyRepository.save(MigrationHistory.of(NAME));
+            }
+        });
+        if (!ran) {
+            log.warn("다른 인스턴스가 범주 비율 백필 중이라 {}초 대기 후 건너뜁니다.", lockTimeoutSeconds);
+        }
+    }
+
+    // 모든 리포트를 처리했으면 true (실패가 있거나 아직 내용이 이관되지 않은 리포트가 있으면 다음 기동에 다시 실행)
+    private boolean backfill() {
+        long lastId = 0;
+        long reports = 0;
+        long rows = 0;
+        long failed = 0;
+
+        while (true) {
+            List<Map<String, Object>> batch = jdbcTemplate.queryForList(
+                    "SELECT c.report_id, r.child_id FROM analysis_report_content c " +
+                            "JOIN analysis_report r ON r.report_id = c.report_id " +
+                            "WHERE c.report_id > ? AND NOT EXISTS " +
+                            "(SELECT 1 FROM report_category_ratio x WHERE x.report_id = c.report_id) " +
+                            "ORDER BY c.report_id LIMIT ?", lastId, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            for (Map<String, Object> row : batch) {
+                Long reportId = ((Number) row.get("report_id")).longValue();
+                Long childId = ((Number) row.get("child_id")).longValue();
+                lastId = reportId;
+                try {
+                    // 백필 중 읽은 내용으로 리포트 캐시를 채우지 않도록 직접 디코딩
+                    AiApiDto.AiResult result = contentCodec.decode(contentRepository.findById(reportId).orElseThrow());
+                    int saved = ratioService.record(reportId, childId, result);
+                    if (saved > 0) {
+                        reports++;
+                        rows += saved;
+                    }
+                } catch (Exception e) {
+                    failed++;
+                    log.error("범주 비율 백필 실패: ReportId={}", reportId, e);
+                }
+            }
+        }
+
+        if (reports > 0 || failed > 0) {
+            log.info("범주 비율 백필 완료: 리포트 {}건, {}행 저장, 실패 {}건", reports, rows, failed);
+        }
+        return failed == 0 && !hasUncopiedContent();
+    }
+
+    private boolean hasUncopiedContent() {
+        if (!MigrationSupport.columnExists(jdbcTemplate, "analysis_report", "content")) {
+            return false;
+        }
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM analysis_report r WHERE r.content IS NOT NULL " +
+                        "AND NOT EXISTS (SELECT 1 FROM analysis_report_content c WHERE c.report_id = r.report_id))",
+                Boolean.class));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.linkid.migration;
+
+import com.example.linkid.service.ReportContentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * analysis_report.content(TEXT) -> analysis_report_content 이관
+ * 기동 시 아직 옮기지 않은 행을 배치 단위로 복사합니다. 원본 컬럼은 비우지 않으므로 배포 중 이전 버전 인스턴스도 그대로 읽고,
+ * 새 버전은 복사 전 리포트를 ReportContentService 가 원본 컬럼에서 읽습니다.
+ * 원본 컬럼 삭제는 모든 인스턴스가 새 버전이 된 뒤 analysis.migration.report-content.drop-legacy-column=true 로
+ * 한 번 더 기동할 때만 실행합니다. 여러 인스턴스가 동시에 기동하면 DB 잠금으로 한 곳씩 실행합니다.
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+@Slf4j
+public class ReportContentMigration implements ApplicationRunner {
+
+    private static final String LOCK_NAME = "linkid.migration.report-content";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReportContentService reportContentService;
+
+    @Value("${analysis.migration.report-content.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.migration.report-content.batch-size:100}")
+    private int batchSize;
+
+    @Value("${analysis.migration.report-content.drop-legacy-column:false}")
+    private boolean dropLegacyColumn;
+
+    @Value("${analysis.migration.lock-timeout-seconds:600}")
+    private int lockTimeoutSeconds;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || !MigrationSupport.columnExists(jdbcTemplate, "analysis_report", "content")) {
+            return;
+        }
+
+        boolean ran = MigrationSupport.runExclusively(jdbcTemplate, LOCK_NAME, lockTimeoutSeconds, () -> {
+            long failed = copyContents();
+            if (dropLegacyColumn) {
+                dropLegacyColumn(failed);
+            }
+        });
+        if (!ran) {
+            log.warn("다른 인스턴스가 리포트 내용 이관 중이라 {}초 대기 후 건너뜁니다 (복사 전 리포트는 원본 컬럼에서 읽음).",
+                    lockTimeoutSeconds);
+        }
+    }
+
+    // 아직 analysis_report_content 에 없는 행만 복사 - 실패 건수 반환
+    private long copyContents() {
+        long lastId = 0;
+        long migrated = 0;
+        long failed = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT r.report_id, r.content FROM analysis_report r " +
+                            "WHERE r.content IS NOT NULL AND r.report_id > ? " +
+                            "AND NOT EXISTS (SELECT 1 FROM analysis_report_content c WHERE c.report_id = r.report_id) " +
+                            "ORDER BY r.report_id LIMIT ?", lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            for (Map<String, Object> row : rows) {
+                Long reportId = ((Number) row.get("report_id")).longValue();
+                lastId = reportId;
+                try {
+                    reportContentService.save(reportId, (String) row.get("content"));
+                    migrated++;
+                } catch (Exception e) {
+                    failed++;
+                    log.error("리포트 내용 이관 실패 (원본 유지): ReportId={}", reportId, e);
+                }
+            }
+        }
+
+        if (migrated > 0) {
+            log.info("리포트 내용 이관 완료: {}건", migrated);
+        }
+        return failed;
+    }
+
+    // 명시적으로 켠 경우에만 - 복사되지 않은 행이 하나라도 있으면 원본 컬럼을 유지
+    private void dropLegacyColumn(long failed) {
+        Long remaining = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM analysis_report r WHERE r.content IS NOT NULL " +
+                        "AND NOT EXISTS (SELECT 1 FROM analysis_report_content c WHERE c.report_id = r.report_id)",
+                Long.class);
+        if (failed > 0 || remaining == null || remaining > 0) {
+            log.warn("이관하지 못한 리포트 내용 {}건이 있어 analysis_report.content 컬럼을 유지합니다.", remaining);
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE analysis_report DROP COLUMN content");
+        log.info("analysis_report.content 컬럼을 삭제했습니다.");
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.linkid.migration;
+
+import com.example.linkid.dto.SttTranscript;
+import com.example.linkid.service.SttTranscriptCodec;
+import com.example.linkid.service.VideoTranscriptService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * video.stt_result(TEXT) -> video_transcript(바이너리) 이관
+ * 기동 시 아직 옮기지 않은 행을 배치 단위로 복사합니다. 원본 컬럼은 비우지 않으므로
+ * 배포 중 함께 떠 있는 이전 버전 인스턴스도 그대로 읽을 수 있고, 새 버전은 복사 전 행을 원본에서 읽습니다.
+ * 복사는 ApplicationRunner 에서 끝까지 실행되므로 readiness(ACCEPTING_TRAFFIC)는 복사가 끝난 뒤에 올라갑니다.
+ * 원본 컬럼 삭제는 되돌릴 수 없으므로 모든 인스턴스가 새 버전이 된 뒤
+ * analysis.migration.transcript.drop-legacy-column=true 로 한 번 더 기동할 때만 실행합니다.
+ * 여러 인스턴스가 동시에 기동하면 DB 잠금으로 한 곳씩 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TranscriptStorageMigration implements ApplicationRunner {
+
+    private static final String LOCK_NAME = "linkid.migration.transcript";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SttTranscriptCodec transcriptCodec;
+    private final VideoTranscriptService videoTranscriptService;
+
+    @Value("${analysis.migration.transcript.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.migration.transcript.batch-size:100}")
+    private int batchSize;
+
+    @Value("${analysis.migration.transcript.drop-legacy-column:false}")
+    private boolean dropLegacyColumn;
+
+    @Value("${analysis.migration.lock-timeout-seconds:600}")
+    private int lockTimeoutSeconds;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        boolean videoColumn = MigrationSupport.columnExists(jdbcTemplate, "video", "stt_result");
+        boolean cacheColumn = MigrationSupport.columnExists(jdbcTemplate, "transcript_cache", "stt_result");
+        if (!videoColumn && !cacheColumn) {
+            return;
+        }
+
+        boolean ran = MigrationSupport.runExclusively(jdbcTemplate, LOCK_NAME, lockTimeoutSeconds, () -> {
+            long failed = videoColumn ? copyVideoTranscripts() : 0;
+            if (dropLegacyColumn) {
+                dropLegacyColumns(failed);
+            }
+        });
+        if (!ran) {
+            log.warn("다른 인스턴스가 STT 결과 이관 중이라 {}초 대기 후 건너뜁니다 (복사 전 행은 원본 컬럼에서 읽음).",
+                    lockTimeoutSeconds);
+        }
+    }
+
+    // 아직 video_transcript 에 없는 행만 복사 (재기동, 동시 실행에도 같은 결과) - 실패 건수 반환
+    private long copyVideoTranscripts() {
+        long lastId = 0;
+        long migrated = 0;
+        long failed = 0;
+        long legacyBytes = 0;
+        long binaryBytes = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT v.video_id, v.stt_result FROM video v " +
+                            "WHERE v.stt_result IS NOT NULL AND v.video_id > ? " +
+                            "AND NOT EXISTS (SELECT 1 FROM video_transcript t WHERE t.video_id = v.video_id) " +
+                            "ORDER BY v.video_id LIMIT ?", lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            for (Map<String, Object> row : rows) {
+                Long videoId = ((Number) row.get("video_id")).longValue();
+                String legacy = (String) row.get("stt_result");
+                lastId = videoId;
+                try {
+                    SttTranscript transcript = transcriptCodec.parse(legacy);
+                    byte[] payload = transcriptCodec.encode(transcript);
+                    videoTranscriptService.save(videoId, payload, transcript.getUtterances().size());
+                    migrated++;
+                    legacyBytes += legacy.getBytes(StandardCharsets.UTF_8).length;
+                    binaryBytes += payload.length;
+                } catch (Exception e) {
+                    failed++;
+                    log.error("STT 결과 이관 실패 (원본 유지): VideoId={}", videoId, e);
+                }
+            }
+        }
+
+        if (migrated > 0) {
+            log.info("STT 결과 이관 완료: {}건, 원본 {} bytes -> 바이너리 {} bytes (평균 {} -> {} bytes/행)",
+                    migrated, legacyBytes, binaryBytes, legacyBytes / migrated, binaryBytes / migrated);
+        }
+        return failed;
+    }
+
+    // 명시적으로 켠 경우에만 - 복사되지 않은 행이 하나라도 있으면 원본 컬럼을 유지
+    private void dropLegacyColumns(long failed) {
+        if (MigrationSupport.columnExists(jdbcTemplate, "video", "stt_result")) {
+            Long remaining = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM video v WHERE v.stt_result IS NOT NULL " +
+                            "AND NOT EXISTS (SELECT 1 FROM video_transcript t WHERE t.video_id = v.video_id)", Long.class);
+            if (failed > 0 || remaining == null || remaining > 0) {
+                log.warn("이관하지 못한 STT 결과 {}건이 있어 video.stt_result 컬럼을 유지합니다.", remaining);
+                return;
+            }
+            jdbcTemplate.execute("ALTER TABLE video DROP COLUMN stt_result");
+            log.info("video.stt_result 컬럼을 삭제했습니다.");
+        }
+
+        // STT 캐시의 이전 JSON 컬럼 - 캐시는 다시 채워지므로 바이너리가 없는 항목은 버림
+        if (MigrationSupport.columnExists(jdbcTemplate, "transcript_cache", "stt_result")) {
+            int deleted = jdbcTemplate.update("DELETE FROM transcript_cache WHERE payload IS NULL");
+            jdbcTemplate.execute("ALTER TABLE transcript_cache DROP COLUMN stt_result");
+            log.info("transcript_cache.stt_result 컬럼 삭제 (이전 형식 캐시 {}건 제거)", deleted);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.linkid.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * video.status 가 MySQL enum 컬럼으로 만들어진 기존 DB 를 VARCHAR 로 변경합니다.
+ * ddl-auto=update 는 enum 값 목록을 바꾸지 않아 새 상태(QUEUED) 저장이 실패하기 때문입니다.
+ * 이미 VARCHAR 이면 아무 것도 하지 않습니다.
+ * EntityManagerFactory 가 이 빈에 의존하므로 JPA, 스케줄러, 웹 요청이 video 를 쓰기 전에 변경이 끝납니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VideoStatusColumnMigration implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        String type = MigrationSupport.columnTypeName(jdbcTemplate, "video", "status");
+        if (!"ENUM".equalsIgnoreCase(type)) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE video MODIFY status VARCHAR(20)");
+        log.info("video.status 컬럼을 ENUM 에서 VARCHAR(20) 으로 변경했습니다.");
+    }
+
+    // EntityManagerFactory 생성 전에 위 변경을 실행하도록 의존 관계를 추가
+    @Component
+    static class EntityManagerFactoryDependsOnMigration extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependsOnMigration() {
+            super(VideoStatusColumnMigration.class);
+        }
+    }
+}
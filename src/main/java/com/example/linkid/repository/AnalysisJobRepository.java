@@ -0,0 +1,66 @@
+package com.example.linkid.repository;
+
+import com.example.linkid.domain.AnalysisJob;
+import com.example.linkid.domain.AnalysisJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, Long> {
+
+    Optional<AnalysisJob> findByVideoId(Long videoId);
+
+    // 점유 후보 ID - 대기 중이면서 재시도 시각이 지난 작업 + 진행 중이지만 점유(lease)가 만료된 작업
+    // 사용자마다 오래된 perUser 건까지만 후보로 올려, 한 사용자의 대량 등록이 다른 사용자의 작업을 후보에서 밀어내지 않게 함
+    @Query(value = "SELECT job_id FROM (" +
+            "SELECT job_id, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY job_id) AS user_rank FROM analysis_job " +
+            "WHERE (status = 'PENDING' AND available_at <= :now) " +
+            "OR (status IN ('STT_PROCESSING', 'STT_COMPLETED') AND lease_until < :now)) ranked " +
+            "WHERE user_rank <= :perUser ORDER BY job_id LIMIT :limit", nativeQuery = true)
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now,
+                                @Param("perUser") int perUser,
+                                @Param("limit") int limit);
+
+    // 후보 행을 잠금과 함께 조회 (다른 인스턴스가 잠갔거나 그사이 점유된 행은 건너뜀)
+    @Query(value = "SELECT * FROM analysis_job WHERE job_id IN (:jobIds) " +
+            "AND ((status = 'PENDING' AND available_at <= :now) " +
+            "OR (status IN ('STT_PROCESSING', 'STT_COMPLETED') AND lease_until < :now)) " +
+            "ORDER BY job_id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<AnalysisJob> lockClaimable(@Param("jobIds") Collection<Long> jobIds, @Param("now") LocalDateTime now);
+
+    // 사용자별 진행 중 작업 수 (스케줄러의 공정 분배 계산용) - [userId, count]
+    @Query("SELECT j.userId, COUNT(j) FROM AnalysisJob j " +
+            "WHERE j.userId IN :userIds AND j.status IN :statuses GROUP BY j.userId")
+    List<Object[]> countByUserIdInAndStatusIn(@Param("userIds") Collection<Long> userIds,
+                                              @Param("statuses") Collection<AnalysisJobStatus> statuses);
+
+    // 멈춘 작업 복구 - 상태가 그대로이고 점유(lease)가 없거나 만료된 경우에만 갱신
+    // 여러 인스턴스의 리퍼나 lease 만료 재점유와 겹쳐도 한 곳만 1 을 받음
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AnalysisJob j SET j.status = :to, j.leaseOwner = null, j.leaseUntil = null, " +
+            "j.lastError = :reason, j.availableAt = :availableAt " +
+            "WHERE j.videoId = :videoId AND j.status = :from AND (j.leaseUntil IS NULL OR j.leaseUntil < :now)")
+    int recoverIfLeaseExpired(@Param("videoId") Long videoId,
+                              @Param("from") AnalysisJobStatus from,
+                              @Param("to") AnalysisJobStatus to,
+                              @Param("reason") String reason,
+                              @Param("availableAt") LocalDateTime availableAt,
+                              @Param("now") LocalDateTime now);
+
+    // 이 워커가 점유 중인 작업들의 lease 연장
+    @Modifying
+    @Query("UPDATE AnalysisJob j SET j.leaseUntil = :leaseUntil, j.heartbeatAt = :now " +
+            "WHERE j.leaseOwner = :owner AND j.status IN :statuses")
+    int extendLeases(@Param("owner") String owner,
+                     @Param("statuses") Collection<AnalysisJobStatus> statuses,
+                     @Param("leaseUntil") LocalDateTime leaseUntil,
+                     @Param("now") LocalDateTime now);
+}
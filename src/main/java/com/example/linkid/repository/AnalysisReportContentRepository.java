@@ -0,0 +1,22 @@
+package com.example.linkid.repository;
+
+import com.example.linkid.domain.AnalysisReportContent;
+import com.example.linkid.domain.ReportContentFormat;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AnalysisReportContentRepository extends JpaRepository<AnalysisReportContent, Long> {
+
+    // 지정 형식이 아닌 행의 ID (reportId 순, 형식 변환 배치용)
+    @Query("SELECT c.reportId FROM AnalysisReportContent c " +
+            "WHERE (c.format IS NULL OR c.format <> :format) AND c.reportId > :afterId ORDER BY c.reportId")
+    List<Long> findIdsNotInFormat(@Param("format") ReportContentFormat format,
+                                  @Param("afterId") Long afterId,
+                                  Pageable pageable);
+}
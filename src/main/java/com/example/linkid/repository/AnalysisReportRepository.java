@@ -2,9 +2,13 @@ package com.example.linkid.repository;
 
 import com.example.linkid.domain.AnalysisReport;
 import com.example.linkid.domain.Video;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,11 +16,43 @@ import java.util.Optional;
 public interface AnalysisReportRepository extends JpaRepository<AnalysisReport, Long> {
     Optional<AnalysisReport> findByVideo(Video video);
 
-    Optional<AnalysisReport> findFirstByChildIdOrderByCreatedAtDesc(Long childId);
+    @Query("SELECT r.reportId FROM AnalysisReport r WHERE r.video.videoId = :videoId")
+    Optional<Long> findReportIdByVideoId(@Param("videoId") Long videoId);
 
-    List<AnalysisReport> findTop5ByChildIdOrderByCreatedAtDesc(Long childId);
+    // 홈 성장 그래프 - 점수 컬럼만 조회
+    List<ReportScoreView> findTop5ByChildIdOrderByCreatedAtDesc(Long childId);
 
-    List<AnalysisReport> findAllByChildIdOrderByCreatedAtDesc(Long childId);
+    // 아이의 전체 점수 이력 (리포트 순, 성장 추이 재계산용)
+    List<ReportScoreView> findAllByChildIdOrderByReportIdAsc(Long childId);
+
+    // 리포트 목록 - 요약 컬럼과 영상 태그/길이만 한 번의 조인으로 조회
+    @Query("SELECT r.reportId AS reportId, r.createdAt AS createdAt, v.contextTag AS contextTag, " +
+            "v.duration AS durationSeconds, r.relationshipStatus AS relationshipStatus, " +
+            "r.piScore AS piScore, r.ndiScore AS ndiScore " +
+            "FROM AnalysisReport r LEFT JOIN r.video v " +
+            "WHERE r.childId = :childId ORDER BY r.createdAt DESC, r.reportId DESC")
+    List<ReportSummaryView> findSummariesByChildId(@Param("childId") Long childId);
+
+    // 리포트 목록 첫 페이지 (최신순, pageable 은 크기만 사용)
+    @Query("SELECT r.reportId AS reportId, r.createdAt AS createdAt, v.contextTag AS contextTag, " +
+            "v.duration AS durationSeconds, r.relationshipStatus AS relationshipStatus, " +
+            "r.piScore AS piScore, r.ndiScore AS ndiScore " +
+            "FROM AnalysisReport r LEFT JOIN r.video v " +
+            "WHERE r.childId = :childId ORDER BY r.createdAt DESC, r.reportId DESC")
+    List<ReportSummaryView> findSummaryPage(@Param("childId") Long childId, Pageable pageable);
+
+    // 리포트 목록 다음 페이지 - (createdAt, reportId) 커서 이후부터 (OFFSET 없이 인덱스 범위 조회)
+    @Query("SELECT r.reportId AS reportId, r.createdAt AS createdAt, v.contextTag AS contextTag, " +
+            "v.duration AS durationSeconds, r.relationshipStatus AS relationshipStatus, " +
+            "r.piScore AS piScore, r.ndiScore AS ndiScore " +
+            "FROM AnalysisReport r LEFT JOIN r.video v " +
+            "WHERE r.childId = :childId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reportId < :reportId)) " +
+            "ORDER BY r.createdAt DESC, r.reportId DESC")
+    List<ReportSummaryView> findSummaryPageBefore(@Param("childId") Long childId,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("reportId") Long reportId,
+                                                  Pageable pageable);
 
     int countByChildId(Long childId);
-}
\ No newline at end of file
+}
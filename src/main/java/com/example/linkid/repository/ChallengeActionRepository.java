@@ -2,6 +2,12 @@ package com.example.linkid.repository;
 
 import com.example.linkid.domain.ChallengeAction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChallengeActionRepository extends JpaRepository<ChallengeAction, Long> {
+
+    // 챌린지의 미완료 행동 수 (행동 컬렉션을 읽지 않고 완료 여부 판단)
+    @Query("SELECT COUNT(a) FROM ChallengeAction a WHERE a.challenge.challengeId = :challengeId AND a.isCompleted = false")
+    long countIncomplete(@Param("challengeId") Long challengeId);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.linkid.repository;
+
+import com.example.linkid.domain.ChallengeStatus;
+
+import java.time.LocalDate;
+
+// 챌린지 목록용 요약 + 행동 수 집계 (행동 컬렉션을 읽지 않음)
+public interface ChallengeProgressView {
+    Long getChallengeId();
+    String getTitle();
+    LocalDate getStartDate();
+    LocalDate getEndDate();
+    ChallengeStatus getStatus();
+    Long getTotalCount();
+    Long getDoneCount();
+}
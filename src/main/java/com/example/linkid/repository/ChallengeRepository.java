@@ -2,6 +2,7 @@ package com.example.linkid.repository;
 
 import com.example.linkid.domain.Challenge;
 import com.example.linkid.domain.ChallengeStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,6 +17,31 @@ public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
     @Query("SELECT c FROM Challenge c JOIN FETCH c.actions WHERE c.child.childId = :childId AND c.status = :status")
     List<Challenge> findAllByChildIdAndStatus(@Param("childId") Long childId, @Param("status") ChallengeStatus status);
 
+    // 챌린지 목록 - 챌린지별 전체/완료 행동 수를 DB 에서 집계 (최신순, pageable 은 크기만 사용)
+    @Query("SELECT c.challengeId AS challengeId, c.title AS title, c.startDate AS startDate, c.endDate AS endDate, " +
+            "c.status AS status, COUNT(a) AS totalCount, " +
+            "COALESCE(SUM(CASE WHEN a.isCompleted = true THEN 1 ELSE 0 END), 0) AS doneCount " +
+            "FROM Challenge c LEFT JOIN c.actions a " +
+            "WHERE c.child.childId = :childId AND c.status = :status " +
+            "GROUP BY c.challengeId, c.title, c.startDate, c.endDate, c.status " +
+            "ORDER BY c.challengeId DESC")
+    List<ChallengeProgressView> findProgressByChildIdAndStatus(@Param("childId") Long childId,
+                                                               @Param("status") ChallengeStatus status,
+                                                               Pageable pageable);
+
+    // 챌린지 목록 다음 페이지 - cursor(challengeId) 이전부터
+    @Query("SELECT c.challengeId AS challengeId, c.title AS title, c.startDate AS startDate, c.endDate AS endDate, " +
+            "c.status AS status, COUNT(a) AS totalCount, " +
+            "COALESCE(SUM(CASE WHEN a.isCompleted = true THEN 1 ELSE 0 END), 0) AS doneCount " +
+            "FROM Challenge c LEFT JOIN c.actions a " +
+            "WHERE c.child.childId = :childId AND c.status = :status AND c.challengeId < :beforeId " +
+            "GROUP BY c.challengeId, c.title, c.startDate, c.endDate, c.status " +
+            "ORDER BY c.challengeId DESC")
+    List<ChallengeProgressView> findProgressByChildIdAndStatusBefore(@Param("childId") Long childId,
+                                                                     @Param("status") ChallengeStatus status,
+                                                                     @Param("beforeId") Long beforeId,
+                                                                     Pageable pageable);
+
     Optional<Challenge> findFirstByChildChildIdAndStatusOrderByCreatedAtDesc(Long childId, ChallengeStatus status);
 
     List<Challenge> findAllByStatusAndEndDateBefore(ChallengeStatus status, LocalDate date);
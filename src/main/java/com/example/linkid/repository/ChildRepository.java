@@ -2,7 +2,11 @@ package com.example.linkid.repository;
 
 import com.example.linkid.domain.Child;
 import com.example.linkid.domain.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +14,12 @@ import java.util.Optional;
 @Repository
 public interface ChildRepository extends JpaRepository<Child, Long> {
     Optional<Child> findFirstByUser(User user);
+
+    // 로그인 ID 로 바로 조회 (유저 조회 없이 한 번의 조인)
+    Optional<Child> findFirstByUser_LoginId(String loginId);
+
+    // 아이 단위 갱신(성장 추이 등)을 직렬화하기 위한 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Child c WHERE c.childId = :childId")
+    Optional<Child> findByIdForUpdate(@Param("childId") Long childId);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.example.linkid.repository;
+
+import com.example.linkid.domain.GrowthTrend;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GrowthTrendRepository extends JpaRepository<GrowthTrend, Long> {
+
+    List<GrowthTrend> findAllByChildId(Long childId);
+}
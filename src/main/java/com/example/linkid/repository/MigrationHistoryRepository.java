@@ -0,0 +1,9 @@
+package com.example.linkid.repository;
+
+import com.example.linkid.domain.MigrationHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MigrationHistoryRepository extends JpaRepository<MigrationHistory, String> {
+}
@@ -0,0 +1,26 @@
+package com.example.linkid.repository;
+
+import com.example.linkid.domain.RateLimitBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, String> {
+
+    // 버킷이 없을 때만 가득 찬 상태로 생성 (동시 생성 시 중복 키 오류 없이 한 건만 남음)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO rate_limit_bucket (bucket_key, tokens, refilled_at) " +
+            "VALUES (:key, :tokens, :now)", nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key, @Param("tokens") double tokens, @Param("now") long now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM RateLimitBucket b WHERE b.bucketKey = :key")
+    Optional<RateLimitBucket> findForUpdate(@Param("key") String key);
+}
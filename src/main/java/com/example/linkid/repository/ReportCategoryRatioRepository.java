@@ -0,0 +1,24 @@
+package com.example.linkid.repository;
+
+import com.example.linkid.domain.ReportCategoryRatio;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReportCategoryRatioRepository extends JpaRepository<ReportCategoryRatio, Long> {
+
+    List<ReportCategoryRatio> findAllByReportId(Long reportId);
+
+    // 아이의 가장 최근 리포트의 비율 - 최근 리포트 ID 를 서브쿼리로 구해 한 번에 조회 (둘 다 child_id, report_id 인덱스)
+    // 최근 리포트에 범주 정보가 없으면 빈 목록
+    @Query("SELECT x FROM ReportCategoryRatio x WHERE x.childId = :childId AND x.reportId = " +
+            "(SELECT MAX(r.reportId) FROM AnalysisReport r WHERE r.childId = :childId)")
+    List<ReportCategoryRatio> findAllOfLatestReportByChildId(@Param("childId") Long childId);
+
+    // 아이의 전체 비율 이력 (리포트 순, 성장 추이 재계산용)
+    List<ReportCategoryRatio> findAllByChildIdOrderByReportIdAsc(Long childId);
+}
@@ -0,0 +1,12 @@
+package com.example.linkid.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 성장 그래프용 점수 (상세 내용 제외)
+public interface ReportScoreView {
+    LocalDateTime getCreatedAt();
+    BigDecimal getPiScore();
+    BigDecimal getNdiScore();
+    BigDecimal getQiScore();
+}
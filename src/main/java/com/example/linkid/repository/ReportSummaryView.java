@@ -0,0 +1,15 @@
+package com.example.linkid.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 리포트 목록용 요약 (상세 내용 제외)
+public interface ReportSummaryView {
+    Long getReportId();
+    LocalDateTime getCreatedAt();
+    String getContextTag();
+    Integer getDurationSeconds();
+    String getRelationshipStatus();
+    BigDecimal getPiScore();
+    BigDecimal getNdiScore();
+}
@@ -0,0 +1,13 @@
+package com.example.linkid.repository;
+
+import com.example.linkid.domain.TranscriptCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TranscriptCacheRepository extends JpaRepository<TranscriptCache, Long> {
+
+    Optional<TranscriptCache> findByContentKey(String contentKey);
+}
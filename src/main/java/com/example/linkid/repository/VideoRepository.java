@@ -1,9 +1,70 @@
 package com.example.linkid.repository;
 
 import com.example.linkid.domain.Video;
+import com.example.linkid.domain.VideoStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface VideoRepository extends JpaRepository<Video, Long> {
-}
\ No newline at end of file
+    List<Video> findAllByStatusAndStatusUpdatedAtBefore(VideoStatus status, LocalDateTime cutoff);
+
+    List<Video> findAllByStatusAndAiExecutionIdIsNotNullAndStatusUpdatedAtBefore(VideoStatus status, LocalDateTime cutoff);
+
+    Optional<Video> findByAiExecutionId(String aiExecutionId);
+
+    // SSE 구독 영상들의 현재 상태 (상태 컬럼만 조회)
+    List<VideoStatusView> findAllByVideoIdIn(Collection<Long> videoIds);
+
+    // 분석 시작 전이 - 현재 상태가 from 중 하나일 때만 to 로 바꾸고 이전 오류를 지움
+    // 같은 영상에 대한 동시 시작 요청은 행 잠금으로 직렬화되어 한 요청만 1 을 받음
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Video v SET v.status = :to, v.statusUpdatedAt = :now, v.errorMessage = null " +
+            "WHERE v.videoId = :videoId AND v.status IN :from")
+    int transitionStatusFrom(@Param("videoId") Long videoId,
+                             @Param("from") Collection<VideoStatus> from,
+                             @Param("to") VideoStatus to,
+                             @Param("now") LocalDateTime now);
+
+    // AI 요청 완료 기록 - STT 저장까지 끝난 영상만 (실행 ID 와 상태를 함께 변경)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Video v SET v.aiExecutionId = :executionId, v.status = :to, v.statusUpdatedAt = :now " +
+            "WHERE v.videoId = :videoId AND v.status = :from")
+    int recordAiExecution(@Param("videoId") Long videoId,
+                          @Param("executionId") String executionId,
+                          @Param("from") VideoStatus from,
+                          @Param("to") VideoStatus to,
+                          @Param("now") LocalDateTime now);
+
+    // 상태를 건드리지 않고 컬럼 하나만 저장 (파이프라인이 들고 있는 영상 객체를 병합하면 다른 경로의 상태 변경을 덮어씀)
+    @Modifying
+    @Query("UPDATE Video v SET v.contentKey = :contentKey WHERE v.videoId = :videoId")
+    int updateContentKey(@Param("videoId") Long videoId, @Param("contentKey") String contentKey);
+
+    @Modifying
+    @Query("UPDATE Video v SET v.sttToken = :sttToken WHERE v.videoId = :videoId")
+    int updateSttToken(@Param("videoId") Long videoId, @Param("sttToken") String sttToken);
+
+    // 현재 상태가 from 일 때만 to 로 전이 (동시에 여러 경로에서 전이를 시도해도 한 곳만 성공)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Video v SET v.status = :to, v.statusUpdatedAt = :now WHERE v.videoId = :videoId AND v.status = :from")
+    int transitionStatus(@Param("videoId") Long videoId,
+                         @Param("from") VideoStatus from,
+                         @Param("to") VideoStatus to,
+                         @Param("now") LocalDateTime now);
+
+    // 실패 사유 기록 - 현재 상태가 status 일 때만 (다른 경로가 이미 상태를 바꿨으면 덮어쓰지 않음)
+    @Modifying
+    @Query("UPDATE Video v SET v.errorMessage = :errorMessage WHERE v.videoId = :videoId AND v.status = :status")
+    int updateErrorMessage(@Param("videoId") Long videoId,
+                           @Param("status") VideoStatus status,
+                           @Param("errorMessage") String errorMessage);
+}
@@ -0,0 +1,11 @@
+package com.example.linkid.repository;
+
+import com.example.linkid.domain.VideoStatus;
+
+// SSE 구독 중인 영상의 저장된 상태 (다른 인스턴스에서 바뀐 상태 전달용)
+public interface VideoStatusView {
+    Long getVideoId();
+    VideoStatus getStatus();
+    String getAiDetailStatus();
+    Integer getAiProgress();
+}
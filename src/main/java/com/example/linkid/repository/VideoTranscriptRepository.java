@@ -0,0 +1,9 @@
+package com.example.linkid.repository;
+
+import com.example.linkid.domain.VideoTranscript;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VideoTranscriptRepository extends JpaRepository<VideoTranscript, Long> {
+}
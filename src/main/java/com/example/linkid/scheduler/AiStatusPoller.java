@@ -0,0 +1,99 @@
+package com.example.linkid.scheduler;
+
+import com.example.linkid.domain.Video;
+import com.example.linkid.domain.VideoStatus;
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.repository.VideoRepository;
+import com.example.linkid.service.AiAnalysisService;
+import com.example.linkid.service.AnalysisCompletionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI_ANALYZING 상태의 실행들을 서버에서 일괄 조회하여 진행률/완료 결과를 저장합니다.
+ * 변화가 없으면 조회 간격을 늘리고, 변화가 생기면 최소 간격으로 되돌립니다.
+ * AI 콜백이 설정된 경우 콜백이 늦어진 실행만 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AiStatusPoller {
+
+    private final VideoRepository videoRepository;
+    private final AiAnalysisService aiAnalysisService;
+    private final AnalysisCompletionService completionService;
+
+    @Value("${analysis.ai-poller.min-interval-ms:2000}")
+    private long minIntervalMs;
+
+    @Value("${analysis.ai-poller.max-interval-ms:30000}")
+    private long maxIntervalMs;
+
+    @Value("${analysis.ai-poller.max-concurrency:8}")
+    private int maxConcurrency;
+
+    @Value("${analysis.ai-poller.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+
+    // 콜백 사용 시 이 시간 동안 콜백이 오지 않은 실행만 폴링 (폴링은 콜백 유실 대비용)
+    @Value("${analysis.ai-poller.callback-grace-seconds:300}")
+    private long callbackGraceSeconds;
+
+    private long currentIntervalMs;
+    private Instant nextPollAt = Instant.EPOCH;
+
+    @Scheduled(fixedDelayString = "${analysis.ai-poller.tick-ms:1000}")
+    public void poll() {
+        if (Instant.now().isBefore(nextPollAt)) {
+            return;
+        }
+
+        LocalDateTime cutoff = aiAnalysisService.isCallbackEnabled()
+                ? LocalDateTime.now().minusSeconds(callbackGraceSeconds)
+                : LocalDateTime.now();
+        List<Video> analyzing = videoRepository.findAllByStatusAndAiExecutionIdIsNotNullAndStatusUpdatedAtBefore(
+                VideoStatus.AI_ANALYZING, cutoff);
+        boolean changed = false;
+
+        if (!analyzing.isEmpty()) {
+            List<Map.Entry<Video, AiApiDto.StatusResponse>> responses = Flux.fromIterable(analyzing)
+                    .flatMap(video -> aiAnalysisService.getStatusMono(video.getAiExecutionId())
+                            .timeout(Duration.ofMillis(requestTimeoutMs))
+                            .map(status -> Map.entry(video, status))
+                            .onErrorResume(e -> {
+                                log.warn("AI 상태 조회 실패: VideoId={}, {}", video.getVideoId(), e.getMessage());
+                                return Mono.empty();
+                            }), maxConcurrency)
+                    .collectList()
+                    .block();
+
+            for (Map.Entry<Video, AiApiDto.StatusResponse> entry : responses) {
+                try {
+                    changed |= completionService.applyStatus(entry.getKey(), entry.getValue());
+                } catch (Exception e) {
+                    log.error("AI 상태 반영 중 오류: VideoId={}", entry.getKey().getVideoId(), e);
+                }
+            }
+        }
+
+        scheduleNext(changed);
+    }
+
+    private void scheduleNext(boolean changed) {
+        currentIntervalMs = changed || currentIntervalMs == 0
+                ? minIntervalMs
+                : Math.min(currentIntervalMs * 2, maxIntervalMs);
+        nextPollAt = Instant.now().plusMillis(currentIntervalMs);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.linkid.scheduler;
+
+import com.example.linkid.service.AnalysisEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 인스턴스에 SSE 로 구독 중인 영상의 상태를 DB 에서 주기적으로 읽어 전달합니다.
+ * 분석 작업은 어느 인스턴스의 워커든 처리할 수 있으므로, 구독 연결을 가진 인스턴스가
+ * 상태 변화를 직접 보지 못한 경우에도 이 경로로 전달됩니다. 구독자가 없으면 조회하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisEventRelay {
+
+    private final AnalysisEventService analysisEventService;
+
+    @Scheduled(fixedDelayString = "${analysis.sse.poll-interval-ms:2000}")
+    public void relay() {
+        try {
+            int relayed = analysisEventService.relayPersistedStatuses();
+            if (relayed > 0) {
+                log.debug("저장된 분석 상태 {}건을 SSE 구독자에게 전달했습니다.", relayed);
+            }
+        } catch (Exception e) {
+            log.warn("분석 상태 전달 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.linkid.scheduler;
+
+import com.example.linkid.config.AsyncConfig;
+import com.example.linkid.config.VirtualThreadAnalysisExecutor;
+import com.example.linkid.domain.AnalysisJob;
+import com.example.linkid.service.AnalysisJobService;
+import com.example.linkid.service.AnalysisPipelineSupport;
+import com.example.linkid.service.AsyncAnalysisService;
+import com.example.linkid.service.ReactiveAnalysisPipeline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisJobWorker {
+
+    private final AnalysisJobService jobService;
+    private final AsyncAnalysisService asyncAnalysisService;
+    private final ReactiveAnalysisPipeline reactiveAnalysisPipeline;
+
+    @Qualifier(AsyncConfig.ANALYSIS_EXECUTOR)
+    private final AsyncTaskExecutor analysisExecutor;
+
+    @Value("${analysis.job.batch-size:10}")
+    private int batchSize;
+
+    // blocking: 분석 Executor 스레드에서 실행 / reactive: Reactor 체인으로 실행 (스레드 점유 없음)
+    @Value("${analysis.pipeline.mode:blocking}")
+    private String pipelineMode;
+
+    // 로컬 Executor 에 노는 스레드가 있는 만큼만 작업을 점유하여 투입
+    // (큐 여유분까지 점유하면 실행 순서가 스케줄러가 아니라 Executor 큐의 FIFO 로 정해짐)
+    @Scheduled(fixedDelayString = "${analysis.job.poll-interval-ms:2000}")
+    public void pollJobs() {
+        int capacity = Math.min(batchSize, freeCapacity());
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<AnalysisJob> jobs = jobService.claimBatch(capacity);
+        for (AnalysisJob job : jobs) {
+            if (isReactive()) {
+                reactiveAnalysisPipeline.process(job.getVideoId()).subscribe();
+                continue;
+            }
+            try {
+                asyncAnalysisService.processVideoAsync(job.getVideoId());
+            } catch (TaskRejectedException e) {
+                log.warn("분석 Executor 포화로 작업을 반납합니다. jobId={}", job.getJobId());
+                jobService.defer(job.getVideoId(), Duration.ZERO);
+            }
+        }
+
+        if (!jobs.isEmpty()) {
+            log.info("분석 작업 {}건 점유 (worker={})", jobs.size(), jobService.getWorkerId());
+        }
+    }
+
+    // 처리 중인 작업의 lease 연장 (인스턴스가 죽으면 연장이 끊겨 다른 인스턴스가 회수)
+    @Scheduled(fixedDelayString = "${analysis.job.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        jobService.heartbeat();
+    }
+
+    private boolean isReactive() {
+        return AnalysisPipelineSupport.MODE_REACTIVE.equalsIgnoreCase(pipelineMode);
+    }
+
+    private int freeCapacity() {
+        if (isReactive()) {
+            return reactiveAnalysisPipeline.freeCapacity();
+        }
+        if (analysisExecutor instanceof VirtualThreadAnalysisExecutor virtual) {
+            return Math.max(0, virtual.getConcurrencyLimit() - virtual.getActiveCount());
+        }
+        // ThreadPoolExecutor 는 큐가 가득 차야 core 이상으로 스레드를 늘리므로 실제 동시 실행 수는 corePoolSize
+        // 큐에 남은 작업은 곧 노는 스레드를 차지하므로 제외
+        ThreadPoolTaskExecutor pool = (ThreadPoolTaskExecutor) analysisExecutor;
+        int idleThreads = pool.getCorePoolSize() - pool.getActiveCount() - pool.getQueueSize();
+        return Math.max(0, idleThreads);
+    }
+}
@@ -2,9 +2,11 @@ package com.example.linkid.scheduler;
 
 import com.example.linkid.domain.Challenge;
 import com.example.linkid.domain.ChallengeStatus;
+import com.example.linkid.event.HomeDataChangedEvent;
 import com.example.linkid.repository.ChallengeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +20,7 @@ import java.util.List;
 public class ChallengeScheduler {
 
     private final ChallengeRepository challengeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 매일 자정(00:00:00)에 실행
     @Scheduled(cron = "0 0 0 * * *")
@@ -37,6 +40,12 @@ public class ChallengeScheduler {
             challenge.setStatus(ChallengeStatus.FAILED);
         }
 
+        // 진행 중 챌린지가 바뀐 아이의 홈 캐시 무효화
+        expiredChallenges.stream()
+                .map(challenge -> challenge.getChild().getChildId())
+                .distinct()
+                .forEach(childId -> eventPublisher.publishEvent(new HomeDataChangedEvent(childId, "challenge_expired")));
+
         log.info("총 {}개의 기간 만료 챌린지를 실패(FAILED) 처리했습니다.", expiredChallenges.size());
     }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.example.linkid.scheduler;
+
+import com.example.linkid.repository.AnalysisReportContentRepository;
+import com.example.linkid.service.ReportContentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 설정 형식(analysis.report.content-format)이 아닌 리포트 내용을 백그라운드에서 다시 인코딩합니다.
+ * 한 번에 batch-size 건씩 reportId 순으로 진행하고, 끝까지 돌면 처음부터 다시 확인합니다.
+ * 처음부터 확인했는데 대상이 없으면 idle-interval-ms 동안 쉽니다. (새 리포트는 설정 형식으로 저장되므로
+ * 대상은 이관/형식 설정 변경 직후에만 생김)
+ * 변환하지 못한 행은 원래 형식 그대로 읽히므로 다음 순회에서 다시 시도합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReportContentUpgrader {
+
+    private final AnalysisReportContentRepository contentRepository;
+    private final ReportContentService reportContentService;
+
+    @Value("${analysis.report.content-upgrade.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.report.content-upgrade.batch-size:100}")
+    private int batchSize;
+
+    @Value("${analysis.report.content-upgrade.idle-interval-ms:3600000}")
+    private long idleIntervalMs;
+
+    private long lastReportId;
+    private long idleUntil;
+
+    @Scheduled(fixedDelayString = "${analysis.report.content-upgrade.interval-ms:10000}")
+    public void upgradeBatch() {
+        if (!enabled || System.currentTimeMillis() < idleUntil) {
+            return;
+        }
+
+        List<Long> reportIds = contentRepository.findIdsNotInFormat(
+                reportContentService.writeFormat(), lastReportId, PageRequest.of(0, batchSize));
+        if (reportIds.isEmpty()) {
+            if (lastReportId == 0) {
+                idleUntil = System.currentTimeMillis() + idleIntervalMs;
+            }
+            lastReportId = 0;
+            return;
+        }
+
+        int upgraded = 0;
+        for (Long reportId : reportIds) {
+            if (reportContentService.upgrade(reportId)) {
+                upgraded++;
+            }
+            lastReportId = reportId;
+        }
+        log.info("리포트 내용 형식 변환: {}/{}건 -> {}", upgraded, reportIds.size(), reportContentService.writeFormat());
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.linkid.scheduler;
+
+import com.example.linkid.domain.AnalysisJobStatus;
+import com.example.linkid.domain.Video;
+import com.example.linkid.domain.VideoStatus;
+import com.example.linkid.repository.VideoRepository;
+import com.example.linkid.service.AnalysisEventService;
+import com.example.linkid.service.AnalysisJobService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * statusUpdatedAt 기준으로 오래 멈춰 있는 분석을 찾아 복구합니다.
+ * - STT_PROCESSING / STT_COMPLETED : 작업 큐에 재등록 (STT 결과가 저장돼 있으면 AI 요청 단계부터 재개)
+ * - AI_ANALYZING : AI 요청 기록이 없으면 재등록, 실행 ID 가 있는데 끝나지 않으면 실패 처리
+ * 작업 점유(lease)가 살아 있으면 워커가 하트비트로 진행 중인 것이므로 건너뜁니다.
+ * 모든 갱신은 현재 상태 조건부이므로 여러 인스턴스에서 동시에 실행돼도 한 곳만 복구합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StuckAnalysisReaper {
+
+    private final VideoRepository videoRepository;
+    private final AnalysisJobService analysisJobService;
+    private final AnalysisEventService analysisEventService;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${analysis.reaper.stt-processing-timeout-minutes:60}")
+    private long sttProcessingTimeoutMinutes;
+
+    @Value("${analysis.reaper.stt-completed-timeout-minutes:10}")
+    private long sttCompletedTimeoutMinutes;
+
+    @Value("${analysis.reaper.ai-analyzing-timeout-minutes:60}")
+    private long aiAnalyzingTimeoutMinutes;
+
+    @Scheduled(fixedDelayString = "${analysis.reaper.interval-ms:60000}")
+    public void reapStuckAnalyses() {
+        int recovered = reap(VideoStatus.STT_PROCESSING, sttProcessingTimeoutMinutes)
+                + reap(VideoStatus.STT_COMPLETED, sttCompletedTimeoutMinutes)
+                + reap(VideoStatus.AI_ANALYZING, aiAnalyzingTimeoutMinutes);
+
+        if (recovered > 0) {
+            log.info("멈춘 분석 총 {}건을 복구 처리했습니다.", recovered);
+        }
+    }
+
+    private int reap(VideoStatus status, long timeoutMinutes) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Video> stuckVideos = videoRepository.findAllByStatusAndStatusUpdatedAtBefore(
+                status, now.minusMinutes(timeoutMinutes));
+
+        // 영상마다 별도 트랜잭션 - 작업/영상 갱신 중 하나라도 경합에서 지면 둘 다 되돌림
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int recovered = 0;
+        for (Video video : stuckVideos) {
+            Duration stuckFor = Duration.between(video.getStatusUpdatedAt(), now);
+            String action = tx.execute(txStatus -> {
+                String result = recover(video, now);
+                if (result == null) {
+                    txStatus.setRollbackOnly();
+                }
+                return result;
+            });
+            if (action == null) {
+                continue;
+            }
+            recovered++;
+            analysisEventService.publish(video.getVideoId(),
+                    "requeued".equals(action) ? VideoStatus.QUEUED : VideoStatus.FAILED, null);
+
+            meterRegistry.timer("analysis.reaper.stuck.duration", "status", status.name(), "action", action)
+                    .record(stuckFor);
+            log.warn("멈춘 분석 복구: VideoId={}, 상태={}, 정체 시간={}분, 조치={}",
+                    video.getVideoId(), status, stuckFor.toMinutes(), action);
+        }
+        return recovered;
+    }
+
+    // 복구 조치 후 조치 이름(requeued / failed) 반환, 진행 중이거나 다른 곳에서 먼저 처리했으면 null
+    private String recover(Video video, LocalDateTime now) {
+        Long videoId = video.getVideoId();
+        VideoStatus status = video.getStatus();
+        String reason = status + " 상태로 " + video.getStatusUpdatedAt() + " 이후 진행 없음";
+
+        boolean canResume = status != VideoStatus.AI_ANALYZING || video.getAiExecutionId() == null;
+        if (canResume) {
+            AnalysisJobService.Recovery recovery = analysisJobService.requeueStuck(video, reason);
+            if (recovery == AnalysisJobService.Recovery.LEASED) {
+                log.debug("작업 점유가 유지 중이라 복구하지 않습니다. VideoId: {}", videoId);
+                return null;
+            }
+            if (recovery == AnalysisJobService.Recovery.REQUEUED) {
+                return videoRepository.transitionStatus(videoId, status, VideoStatus.QUEUED, now) == 1
+                        ? "requeued" : null;
+            }
+        }
+
+        if (videoRepository.transitionStatus(videoId, status, VideoStatus.FAILED, now) == 0) {
+            return null;
+        }
+        videoRepository.findById(videoId).ifPresent(v -> v.setErrorMessage("분석 시간 초과: " + reason));
+        analysisJobService.release(videoId, AnalysisJobStatus.FAILED);
+        return "failed";
+    }
+}
@@ -1,48 +1,76 @@
 package com.example.linkid.service;
 
+import com.example.linkid.config.ResilienceConfig;
+import com.example.linkid.config.WebClientConfig;
 import com.example.linkid.dto.AiApiDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AiAnalysisService {
 
-    @Value("${ai.server.url}")
-    private String aiServerUrl;
+    // 설정 시 분석 요청에 콜백 URL 을 포함하여 완료 결과를 푸시로 받음
+    @Value("${ai.server.callback-url:}")
+    private String callbackUrl;
 
-    private final WebClient.Builder webClientBuilder;
+    // AI 서버 전용 커넥션 풀을 쓰는 공용 클라이언트 (base-url: ai.server.url)
+    @Qualifier(WebClientConfig.AI_WEB_CLIENT)
+    private final WebClient aiWebClient;
+    private final ExternalCallGuard externalCallGuard;
 
     // 분석 요청 (POST /analyze)
     public String requestAnalysis(AiApiDto.AnalyzeRequest request) {
-        AiApiDto.AnalyzeResponse response = webClientBuilder.build()
-                .post()
-                .uri(aiServerUrl + "/analyze")
+        String executionId = requestAnalysisMono(request).block();
+        if (executionId != null) {
+            return executionId;
+        }
+        throw new RuntimeException("AI 서버 요청 실패");
+    }
+
+    // 분석 요청 - 논블로킹 (리액티브 파이프라인용)
+    public Mono<String> requestAnalysisMono(AiApiDto.AnalyzeRequest request) {
+        if (isCallbackEnabled()) {
+            request.setCallbackUrl(callbackUrl);
+        }
+
+        Mono<AiApiDto.AnalyzeResponse> call = aiWebClient.post()
+                .uri("/analyze")
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(AiApiDto.AnalyzeResponse.class)
-                .block();
+                .bodyToMono(AiApiDto.AnalyzeResponse.class);
 
-        if (response != null) {
-            log.info("AI 분석 요청 성공. Execution ID: {}", response.getExecution_id());
-            return response.getExecution_id();
-        }
-        throw new RuntimeException("AI 서버 요청 실패");
+        // 멱등하지 않은 요청이므로 재시도하지 않음 - 서버가 접수한 뒤 응답만 늦은 경우 재전송하면 분석과 콜백이 중복됨
+        // 실패는 작업 큐의 재시도(백오프, 시도 횟수 제한)로 처리
+        return externalCallGuard.guardWithoutRetry(ResilienceConfig.AI_SERVER, call)
+                .mapNotNull(AiApiDto.AnalyzeResponse::getExecution_id)
+                .doOnNext(executionId -> log.info("AI 분석 요청 성공. Execution ID: {}", executionId));
+    }
+
+    public boolean isCallbackEnabled() {
+        return StringUtils.hasText(callbackUrl);
     }
 
     // 상태 조회 (GET /status/{executionId})
     public AiApiDto.StatusResponse getStatus(String executionId) {
-        return webClientBuilder.build()
-                .get()
-                .uri(aiServerUrl + "/status/" + executionId)
+        return getStatusMono(executionId).block();
+    }
+
+    // 상태 조회 - 논블로킹 (AiStatusPoller 에서 여러 건을 동시에 조회할 때 사용)
+    // 다음 폴링 주기에 다시 조회하므로 재시도하지 않음
+    public Mono<AiApiDto.StatusResponse> getStatusMono(String executionId) {
+        return externalCallGuard.guardWithoutRetry(ResilienceConfig.AI_SERVER, aiWebClient.get()
+                .uri("/status/{executionId}", executionId)
                 .retrieve()
-                .bodyToMono(AiApiDto.StatusResponse.class)
-                .block();
+                .bodyToMono(AiApiDto.StatusResponse.class));
     }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.example.linkid.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 분석 시작 요청 허용 여부 판단 (사용자별 + 전체 토큰 버킷)
+ * 판단 결과는 analysis.admission 카운터(result 태그)로 기록됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisAdmissionService {
+
+    private static final String GLOBAL_KEY = "analysis:global";
+
+    private final AnalysisRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${analysis.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.rate-limit.user.capacity:5}")
+    private long userCapacity;
+
+    @Value("${analysis.rate-limit.user.refill-per-minute:5}")
+    private long userRefillPerMinute;
+
+    @Value("${analysis.rate-limit.global.capacity:50}")
+    private long globalCapacity;
+
+    @Value("${analysis.rate-limit.global.refill-per-minute:60}")
+    private long globalRefillPerMinute;
+
+    /**
+     * 분석 시작 1회분 허용 여부
+     * @return 허용이면 Duration.ZERO, 거절이면 재시도까지 기다려야 할 시간 (Retry-After)
+     */
+    public Duration admit(String userKey) {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+
+        // 사용자 한도를 먼저 확인하여 한 사용자의 반복 요청이 전체 한도를 소모하지 않도록 함
+        Duration wait = rateLimiter.tryAcquire(userBucketKey(userKey), userRule());
+        if (!wait.isZero()) {
+            record("throttled_user");
+            log.info("사용자별 분석 요청 한도 초과: user={}, retryAfter={}s", userKey, wait.toSeconds());
+            return wait;
+        }
+
+        wait = rateLimiter.tryAcquire(GLOBAL_KEY, globalRule());
+        if (!wait.isZero()) {
+            // 전체 한도에 막혔으면 이미 소비한 사용자 토큰은 되돌림
+            rateLimiter.refund(userBucketKey(userKey), userRule());
+            record("throttled_global");
+            log.warn("전체 분석 요청 한도 초과: retryAfter={}s", wait.toSeconds());
+            return wait;
+        }
+
+        record("allowed");
+        return Duration.ZERO;
+    }
+
+    /**
+     * admit 으로 허용됐지만 실제로 분석이 시작되지 않은 경우(이미 대기/진행 중인 영상) 토큰을 되돌립니다.
+     */
+    public void refund(String userKey) {
+        if (!enabled) {
+            return;
+        }
+        rateLimiter.refund(userBucketKey(userKey), userRule());
+        rateLimiter.refund(GLOBAL_KEY, globalRule());
+        record("refunded");
+    }
+
+    private String userBucketKey(String userKey) {
+        return "analysis:user:" + userKey;
+    }
+
+    private AnalysisRateLimiter.Rule userRule() {
+        return new AnalysisRateLimiter.Rule(userCapacity, userRefillPerMinute);
+    }
+
+    private AnalysisRateLimiter.Rule globalRule() {
+        return new AnalysisRateLimiter.Rule(globalCapacity, globalRefillPerMinute);
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("analysis.admission", "result", result).increment();
+    }
+}
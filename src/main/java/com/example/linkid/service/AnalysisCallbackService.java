@@ -0,0 +1,109 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.Video;
+import com.example.linkid.domain.VideoStatus;
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.dto.SttTranscript;
+import com.example.linkid.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisCallbackService {
+
+    private final VideoRepository videoRepository;
+    private final AnalysisCompletionService completionService;
+    private final AnalysisJobService analysisJobService;
+    private final AnalysisEventService analysisEventService;
+    private final ClovaSpeechService clovaSpeechService;
+    private final TranscriptCacheService transcriptCacheService;
+    private final SttTranscriptCodec transcriptCodec;
+    private final VideoTranscriptService videoTranscriptService;
+
+    // AI 서버와 공유하는 콜백 토큰 (미설정 시 모든 콜백 거부)
+    @Value("${ai.server.callback-token:}")
+    private String aiCallbackToken;
+
+    public boolean isValidAiToken(String token) {
+        if (!StringUtils.hasText(aiCallbackToken) || token == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                aiCallbackToken.getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * AI 분석 결과 콜백 처리 - 폴링과 같은 경로(AnalysisCompletionService)로 반영
+     * 중복 콜백이나 폴러가 먼저 완료 처리한 경우 false
+     */
+    public boolean handleAiResult(AiApiDto.StatusResponse statusResponse) {
+        Video video = videoRepository.findByAiExecutionId(statusResponse.getExecution_id())
+                .orElseThrow(() -> new IllegalArgumentException("실행 ID에 해당하는 영상이 없습니다."));
+
+        boolean applied = completionService.applyStatus(video, statusResponse);
+        log.info("AI 콜백 수신: VideoId={}, status={}, 반영={}", video.getVideoId(), statusResponse.getStatus(), applied);
+        return applied;
+    }
+
+    public boolean isValidClovaSignature(Long videoId, String signature) {
+        return clovaSpeechService.isValidCallbackSignature(videoId, signature);
+    }
+
+    /**
+     * Clova 비동기 STT 결과 콜백 처리
+     * STT_PROCESSING 상태인 영상만 반영하며(중복 콜백 무시), 성공 시 작업을 다시 대기열에 올려 AI 요청 단계부터 진행합니다.
+     */
+    @Transactional
+    public boolean handleClovaResult(Long videoId, String body) {
+        SttTranscript sttResult;
+        try {
+            sttResult = transcriptCodec.parse(body);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("잘못된 STT 콜백 본문입니다.");
+        }
+
+        boolean succeeded = "COMPLETED".equalsIgnoreCase(sttResult.getResult());
+
+        // 조건부 전이로 중복 콜백은 한 번만 반영
+        int updated = videoRepository.transitionStatus(videoId, VideoStatus.STT_PROCESSING,
+                succeeded ? VideoStatus.STT_COMPLETED : VideoStatus.QUEUED, LocalDateTime.now());
+        if (updated == 0) {
+            log.info("이미 처리된 STT 콜백입니다. VideoId: {}", videoId);
+            return false;
+        }
+
+        Video video = videoRepository.findById(videoId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 영상입니다."));
+
+        if (!succeeded) {
+            String message = sttResult.getMessage();
+            log.warn("Clova STT 실패 콜백: VideoId={}, message={}", videoId, message);
+            if (!analysisJobService.retryOrFail(videoId, "STT 처리 실패: " + message)) {
+                video.setStatus(VideoStatus.FAILED);
+                video.setErrorMessage("STT 처리 실패: " + message);
+            }
+            analysisEventService.publish(video);
+            return true;
+        }
+
+        byte[] payload = transcriptCodec.encode(sttResult);
+        videoTranscriptService.save(videoId, payload, sttResult.getUtterances().size());
+        transcriptCacheService.store(video.getContentKey(), payload, video.getDuration());
+        analysisJobService.resumeAfterCallback(videoId);
+        analysisEventService.publish(video);
+
+        log.info("Clova STT 콜백 수신 완료. VideoId: {}", videoId);
+        return true;
+    }
+}
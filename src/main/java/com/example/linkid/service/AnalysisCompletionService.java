@@ -0,0 +1,277 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.*;
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.event.HomeDataChangedEvent;
+import com.example.linkid.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * AI 분석 결과 반영 (진행률 갱신, 완료 시 리포트 저장, 실패 처리)
+ * 상태 전이는 조건부 UPDATE 로 수행하므로 같은 결과가 여러 경로에서 들어와도 리포트는 한 번만 저장됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisCompletionService {
+
+    private final VideoRepository videoRepository;
+    private final AnalysisReportRepository reportRepository;
+    private final ChallengeRepository challengeRepository;
+    private final ChildRepository childRepository;
+    private final UserRepository userRepository;
+    private final AnalysisJobService analysisJobService;
+    private final AnalysisEventService analysisEventService;
+    private final ReportContentService reportContentService;
+    private final ReportCategoryRatioService ratioService;
+    private final GrowthTrendService growthTrendService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * AI 서버 상태 응답 반영 (AiStatusPoller, AI 콜백 공통 경로)
+     * 완료/실패 전이 또는 진행률 변화가 있었으면 true
+     */
+    @Transactional
+    public boolean applyStatus(Video video, AiApiDto.StatusResponse aiStatus) {
+        if ("completed".equalsIgnoreCase(aiStatus.getStatus())) {
+            return complete(video.getVideoId(), aiStatus.getResult());
+        }
+        if ("failed".equalsIgnoreCase(aiStatus.getStatus())) {
+            return fail(video.getVideoId(), aiStatus.getStatus_message());
+        }
+
+        boolean progressed = !Objects.equals(video.getAiProgress(), aiStatus.getProgress_percentage())
+                || !Objects.equals(video.getAiDetailStatus(), aiStatus.getAnalysis_status());
+        if (progressed) {
+            updateProgress(video.getVideoId(), aiStatus.getAnalysis_status(),
+                    aiStatus.getProgress_percentage(), aiStatus.getStatus_message());
+        }
+        return progressed;
+    }
+
+    // 분석 완료 처리. 이미 다른 경로에서 완료된 경우 false
+    @Transactional
+    public boolean complete(Long videoId, AiApiDto.AiResult result) {
+        int updated = videoRepository.transitionStatus(
+                videoId, VideoStatus.AI_ANALYZING, VideoStatus.COMPLETED, LocalDateTime.now());
+        if (updated == 0) {
+            log.debug("이미 처리된 분석 결과입니다. VideoId: {}", videoId);
+            return false;
+        }
+
+        Video video = videoRepository.findById(videoId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 영상입니다."));
+        video.setAiProgress(100);
+
+        updateGrowthMetrics(video.getChildId(), result);
+        // 분석 완료 시 리포트 저장
+        AnalysisReport report = saveAnalysisResult(video, result);
+        // 다음 분석의 변화량 계산용 범주 비율 저장
+        ratioService.record(report.getReportId(), report.getChildId(), result);
+        growthTrendService.record(report);
+        eventPublisher.publishEvent(new HomeDataChangedEvent(video.getChildId(), "report_saved"));
+        analysisJobService.release(videoId, AnalysisJobStatus.COMPLETED);
+        analysisEventService.publish(videoId, VideoStatus.COMPLETED, report.getReportId());
+
+        log.info("AI 분석 결과 저장 완료. VideoId: {}", videoId);
+        return true;
+    }
+
+    // AI 분석 실패 처리. 이미 다른 경로에서 종료된 경우 false
+    @Transactional
+    public boolean fail(Long videoId, String statusMessage) {
+        int updated = videoRepository.transitionStatus(
+                videoId, VideoStatus.AI_ANALYZING, VideoStatus.FAILED, LocalDateTime.now());
+        if (updated == 0) {
+            return false;
+        }
+
+        videoRepository.findById(videoId).ifPresent(video ->
+                video.setErrorMessage("AI 분석 실패: " + statusMessage));
+        analysisJobService.release(videoId, AnalysisJobStatus.FAILED);
+        analysisEventService.publish(videoId, VideoStatus.FAILED, null);
+        return true;
+    }
+
+    // 진행 상태 저장 (클라이언트 폴링은 이 값을 DB 에서 읽기만 함)
+    @Transactional
+    public void updateProgress(Long videoId, String detailStatus, Integer progress, String statusMessage) {
+        videoRepository.findById(videoId)
+                .filter(video -> video.getStatus() == VideoStatus.AI_ANALYZING)
+                .ifPresent(video -> {
+                    video.setAiDetailStatus(detailStatus);
+                    video.setAiProgress(progress);
+                    video.setAiStatusMessage(statusMessage);
+                    analysisEventService.publishProgress(videoId, detailStatus, progress);
+                });
+    }
+
+    private void updateGrowthMetrics(Long childId, AiApiDto.AiResult currentResult) {
+        try {
+            if (currentResult.getStyle_analysis() == null ||
+                    currentResult.getStyle_analysis().getInteractionStyle() == null ||
+                    currentResult.getStyle_analysis().getInteractionStyle().getParentAnalysis() == null) {
+                return;
+            }
+            List<AiApiDto.Category> currentCategories =
+                    currentResult.getStyle_analysis().getInteractionStyle().getParentAnalysis().getCategories();
+            List<AiApiDto.Metric> diffMetrics = new ArrayList<>();
+
+            // 직전 리포트의 범주별 비율 (JSON 파싱 없이 비율 테이블에서 조회)
+            Map<String, Double> prevMap = ratioService.latestRatios(childId);
+
+            for (AiApiDto.Category curr : currentCategories) {
+                Double prevRatio = prevMap.getOrDefault(curr.getLabel(), 0.0);
+                Double currRatio = curr.getRatio();
+
+                double beforeVal = prevRatio * 100;
+                double afterVal = currRatio * 100;
+                double diffVal = afterVal - beforeVal;
+
+                diffMetrics.add(AiApiDto.Metric.builder()
+                        .label(curr.getName())      // "반영적 듣기"
+                        .before(Math.round(beforeVal * 10) / 10.0) // 소수점 1자리 반올림 (선택사항)
+                        .after(Math.round(afterVal * 10) / 10.0)
+                        .diff(Math.round(diffVal * 10) / 10.0)
+                        .value_type("ratio")        // 타입 지정
+                        .build());
+            }
+
+            // 변화량(절대값) 기준 내림차순 정렬 후 상위 3개 추출
+            List<AiApiDto.Metric> top3Metrics = diffMetrics.stream()
+                    .sorted((m1, m2) -> Double.compare(Math.abs(m2.getDiff()), Math.abs(m1.getDiff())))
+                    .limit(3)
+                    .collect(Collectors.toList());
+
+            // 결과 객체에 덮어쓰기
+            if (currentResult.getGrowth_report() == null) {
+                currentResult.setGrowth_report(new AiApiDto.GrowthReport());
+            }
+            List<AiApiDto.Metric> existingMetrics = currentResult.getGrowth_report().getCurrent_metrics();
+            if (existingMetrics == null) {
+                currentResult.getGrowth_report().setCurrent_metrics(top3Metrics);
+            } else {
+                // 이미 AI가 준 메트릭이 있다면 거기에 변화량 메트릭을 합칠지, 덮어쓸지 결정해야 함.
+                // 보통 'ratio' 타입의 비교 메트릭을 우리가 계산해서 넣어주는 것이므로 덮어쓰거나 추가합니다.
+                // 여기서는 리스트를 합치는 방식을 사용하거나, AI가 count만 주고 ratio는 우리가 계산하는 방식이라면
+                // 위 로직대로 우리가 계산한 top3Metrics (ratio)를 넣어줍니다.
+                // AI 응답 예시에는 이미 current_metrics가 들어있으므로, addAll을 하거나
+                // AI가 보내준 ratio 필드에 값을 채워넣는 방식이 필요할 수 있습니다.
+                // 사용자 요청: "이전 분석에 나온 결과랑 이번 분석에 나오는거랑 수치 비교를 해서 비교변화가 가장 큰 세개를 growth_report 반환 안에 내가 포함해서 응답을 보내줘야해."
+                // 따라서 덮어쓰거나 리스트에 추가합니다. 여기서는 덮어쓰도록 하겠습니다.
+                currentResult.getGrowth_report().setCurrent_metrics(top3Metrics);
+            }
+
+        } catch (Exception e) {
+            log.error("성장 리포트 메트릭 계산 중 오류", e);
+        }
+    }
+
+    private AnalysisReport saveAnalysisResult(Video video, AiApiDto.AiResult result) {
+        AnalysisReport report = new AnalysisReport();
+        report.setVideo(video);
+        report.setUserId(video.getUserId());
+        report.setChildId(video.getChildId());
+
+        // 1. 점수 저장 및 QI 계산
+        if (result.getScores() != null) {
+            BigDecimal pi = BigDecimal.valueOf(result.getScores().getPi_score());
+            BigDecimal ndi = BigDecimal.valueOf(result.getScores().getNdi_score());
+
+            report.setPiScore(pi);
+            report.setNdiScore(ndi);
+
+            BigDecimal qi = calculateQiScore(pi, ndi);
+            report.setQiScore(qi);
+        }
+
+        // 2. 관계 상태 저장 (Stage Name)
+        if (result.getSummary_diagnosis() != null) {
+            report.setRelationshipStatus(result.getSummary_diagnosis().getStage_name());
+        }
+
+        AnalysisReport saved = reportRepository.save(report);
+
+        // 3. 전체 결과 JSON 저장 (프론트에서 상세 리포트 보여줄 때 사용, 별도 테이블)
+        reportContentService.save(saved.getReportId(), result);
+
+        return saved;
+    }
+
+    // QI 점수 계산 메서드
+    private BigDecimal calculateQiScore(BigDecimal pi, BigDecimal ndi) {
+        BigDecimal total = pi.add(ndi);
+
+        if (total.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        return pi.divide(total, 2, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100));
+    }
+
+    // 챌린지 저장 메서드
+    private void saveNewChallenge(Video video, AiApiDto.AiResult result) {
+        if (result.getCoaching_and_plan() == null ||
+                result.getCoaching_and_plan().getCoaching_plan() == null ||
+                result.getCoaching_and_plan().getCoaching_plan().getChallenge() == null) {
+            return;
+        }
+
+        AiApiDto.GeneratedChallenge aiChallenge = result.getCoaching_and_plan().getCoaching_plan().getChallenge();
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        LocalDate startDate = LocalDate.now(); // 기본값 오늘
+        LocalDate endDate = startDate.plusDays(6); // 기본값 7일 후
+
+        if (aiChallenge.getSuggested_period() != null) {
+            try {
+                startDate = LocalDate.parse(aiChallenge.getSuggested_period().getStart(), formatter);
+                endDate = LocalDate.parse(aiChallenge.getSuggested_period().getEnd(), formatter);
+            } catch (Exception e) {
+                log.warn("날짜 파싱 실패, 기본값 사용: {}", e.getMessage());
+            }
+        }
+
+        // User, Child 참조 가져오기 (ID 기반 프록시 조회)
+        User userRef = userRepository.getReferenceById(video.getUserId());
+        Child childRef = childRepository.getReferenceById(video.getChildId());
+
+        Challenge challenge = Challenge.builder()
+                .user(userRef)
+                .child(childRef)
+                .title(aiChallenge.getTitle())
+                .goal(aiChallenge.getGoal())
+                .startDate(startDate)
+                .endDate(endDate)
+                .status(ChallengeStatus.PROCEEDING)
+                .build();
+
+        if (aiChallenge.getActions() != null) {
+            List<ChallengeAction> actions = aiChallenge.getActions().stream()
+                    .map(content -> ChallengeAction.builder()
+                            .challenge(challenge)
+                            .content(content)
+                            .isCompleted(false) // 초기 상태 미완료
+                            .build())
+                    .collect(Collectors.toList());
+            challenge.setActions(actions);
+        }
+
+        challengeRepository.save(challenge);
+        log.info("새로운 챌린지 생성 완료: {}", challenge.getTitle());
+    }
+
+}
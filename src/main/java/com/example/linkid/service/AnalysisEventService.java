@@ -0,0 +1,167 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.Video;
+import com.example.linkid.domain.VideoStatus;
+import com.example.linkid.event.AnalysisStatusChangedEvent;
+import com.example.linkid.repository.AnalysisReportRepository;
+import com.example.linkid.repository.VideoRepository;
+import com.example.linkid.repository.VideoStatusView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * 분석 상태 변화를 SSE 구독자에게 전달합니다.
+ * 이벤트는 트랜잭션 커밋 후 전송되며, 분석이 COMPLETED / FAILED 에 도달하면 연결을 정리합니다.
+ * 구독 레지스트리는 인스턴스 로컬이고 작업은 다른 인스턴스의 워커가 처리할 수 있으므로,
+ * 같은 인스턴스의 상태 변화는 즉시 보내고 나머지는 AnalysisEventRelay 가 DB 에 저장된 상태를
+ * 주기적으로 읽어 전달합니다 (analysis.sse.poll-interval-ms 만큼 늦을 수 있음).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisEventService {
+
+    private static final Set<String> TERMINAL_STATUSES =
+            Set.of(VideoStatus.COMPLETED.name(), VideoStatus.FAILED.name());
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final VideoRepository videoRepository;
+    private final AnalysisReportRepository reportRepository;
+
+    @Value("${analysis.sse.timeout-ms:600000}")
+    private long emitterTimeoutMs;
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    // 영상별 마지막으로 보낸 상태 (로컬 이벤트와 DB 폴링이 같은 상태를 두 번 보내지 않도록)
+    private final Map<Long, String> lastSent = new ConcurrentHashMap<>();
+
+    public void publish(Video video) {
+        publish(video.getVideoId(), video.getStatus(), null);
+    }
+
+    public void publish(Long videoId, VideoStatus status, Long reportId) {
+        eventPublisher.publishEvent(new AnalysisStatusChangedEvent(videoId, status, null, null, reportId));
+    }
+
+    public void publishProgress(Long videoId, String detailStatus, Integer progress) {
+        eventPublisher.publishEvent(
+                new AnalysisStatusChangedEvent(videoId, VideoStatus.AI_ANALYZING, detailStatus, progress, null));
+    }
+
+    // 구독 등록 후 현재 상태를 첫 이벤트로 전송 (이미 종료된 분석이면 바로 연결 종료)
+    public SseEmitter subscribe(Long videoId, Supplier<Map<String, Object>> snapshotSupplier) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitters.computeIfAbsent(videoId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+
+        emitter.onCompletion(() -> remove(videoId, emitter));
+        emitter.onTimeout(() -> remove(videoId, emitter));
+        emitter.onError(e -> remove(videoId, emitter));
+
+        Map<String, Object> snapshot = snapshotSupplier.get();
+        lastSent.put(videoId, signature(snapshot));
+        send(videoId, emitter, snapshot);
+        if (TERMINAL_STATUSES.contains(String.valueOf(snapshot.get("status")))) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(AnalysisStatusChangedEvent event) {
+        deliver(event);
+    }
+
+    /**
+     * 구독 중인 영상의 저장된 상태를 읽어 마지막으로 보낸 상태와 다르면 전달합니다.
+     * 다른 인스턴스의 워커/폴러/콜백이 바꾼 상태가 이 경로로 전달됩니다.
+     */
+    public int relayPersistedStatuses() {
+        if (emitters.isEmpty()) {
+            return 0;
+        }
+
+        int relayed = 0;
+        for (VideoStatusView view : videoRepository.findAllByVideoIdIn(Set.copyOf(emitters.keySet()))) {
+            Long reportId = view.getStatus() == VideoStatus.COMPLETED
+                    ? reportRepository.findReportIdByVideoId(view.getVideoId()).orElse(null)
+                    : null;
+            if (deliver(new AnalysisStatusChangedEvent(view.getVideoId(), view.getStatus(),
+                    view.getAiDetailStatus(), view.getAiProgress(), reportId))) {
+                relayed++;
+            }
+        }
+        return relayed;
+    }
+
+    // 구독자에게 전송, 구독자가 없거나 이미 보낸 상태면 false
+    private boolean deliver(AnalysisStatusChangedEvent event) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("videoId", event.videoId());
+        payload.put("status", event.status().name());
+        payload.put("detailStatus", event.detailStatus());
+        payload.put("progress", event.progress());
+        payload.put("reportId", event.reportId());
+
+        if (!emitters.containsKey(event.videoId())
+                || signature(payload).equals(lastSent.put(event.videoId(), signature(payload)))) {
+            return false;
+        }
+
+        List<SseEmitter> subscribers = event.isTerminal()
+                ? emitters.remove(event.videoId())
+                : emitters.get(event.videoId());
+        if (event.isTerminal()) {
+            lastSent.remove(event.videoId());
+        }
+        if (subscribers == null || subscribers.isEmpty()) {
+            return false;
+        }
+
+        for (SseEmitter emitter : subscribers) {
+            send(event.videoId(), emitter, payload);
+            if (event.isTerminal()) {
+                emitter.complete();
+            }
+        }
+        return true;
+    }
+
+    private String signature(Map<String, Object> payload) {
+        return payload.get("status") + "|" + payload.get("detailStatus") + "|" + payload.get("progress");
+    }
+
+    private void send(Long videoId, SseEmitter emitter, Map<String, Object> payload) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(payload));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패, 구독 해제: VideoId={}", videoId);
+            remove(videoId, emitter);
+        }
+    }
+
+    private void remove(Long videoId, SseEmitter emitter) {
+        emitters.computeIfPresent(videoId, (id, list) -> {
+            list.remove(emitter);
+            if (list.isEmpty()) {
+                lastSent.remove(id);
+                return null;
+            }
+            return list;
+        });
+    }
+}
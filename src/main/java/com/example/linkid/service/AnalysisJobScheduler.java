@@ -0,0 +1,27 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.AnalysisJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대기 중인 분석 작업의 실행 순서 결정
+ * 구현: 등록 순서(fifo) / 사용자 공정 분배 + 예상 비용(fair-share, 기본) - analysis.job.scheduler 로 선택
+ */
+public interface AnalysisJobScheduler {
+
+    /**
+     * 점유 후보 중 이번에 실행할 작업을 최대 limit 개 고릅니다.
+     * @param candidates      점유 가능한 후보 (오래된 순)
+     * @param activeJobsByUser 사용자별 이미 진행 중인 작업 수
+     */
+    List<AnalysisJob> select(List<AnalysisJob> candidates, Map<Long, Long> activeJobsByUser,
+                             int limit, LocalDateTime now);
+
+    /**
+     * 점유 후보를 뽑을 때 사용자 한 명당 올릴 최대 작업 수 (오래된 순)
+     */
+    int candidatesPerUser();
+}
@@ -0,0 +1,252 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.AnalysisJob;
+import com.example.linkid.domain.AnalysisJobStatus;
+import com.example.linkid.domain.Video;
+import com.example.linkid.repository.AnalysisJobRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * DB 기반 분석 작업 큐
+ * 작업 상태는 analysis_job 테이블에 저장되어 재시작 후에도 유지되며,
+ * 여러 인스턴스가 SKIP LOCKED 행 잠금으로 작업을 나눠 가져갑니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisJobService {
+
+    private static final Set<AnalysisJobStatus> IN_PROGRESS =
+            EnumSet.of(AnalysisJobStatus.STT_PROCESSING, AnalysisJobStatus.STT_COMPLETED);
+
+    // 사용자 몫을 계산할 때 세는 상태 (AI 분석 중인 작업도 외부 자원을 쓰고 있으므로 포함)
+    private static final Set<AnalysisJobStatus> ACTIVE =
+            EnumSet.of(AnalysisJobStatus.STT_PROCESSING, AnalysisJobStatus.STT_COMPLETED, AnalysisJobStatus.AI_ANALYZING);
+
+    private final AnalysisJobRepository jobRepository;
+    private final AnalysisJobScheduler jobScheduler;
+
+    @Value("${analysis.job.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${analysis.job.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${analysis.job.retry-backoff-seconds:30}")
+    private long retryBackoffSeconds;
+
+    // 스케줄러가 고를 후보 수 = 점유할 개수 x window (사용자별 후보 수는 스케줄러가 정함, 후보 행도 트랜잭션 동안 잠김)
+    @Value("${analysis.job.scheduler-window:5}")
+    private int schedulerWindow;
+
+    // 작업 시각 기준 (스케줄링 시뮬레이션 테스트에서 가상 시계로 교체)
+    private Clock clock = Clock.systemDefaultZone();
+
+    // 인스턴스 식별자 (lease_owner 컬럼에 기록)
+    @Getter
+    private final String workerId = resolveWorkerId();
+
+    // 분석 작업 등록 (이미 작업이 있으면 초기화 후 재등록)
+    @Transactional
+    public AnalysisJob enqueue(Video video) {
+        AnalysisJob job = jobRepository.findByVideoId(video.getVideoId())
+                .orElseGet(AnalysisJob::new);
+
+        job.setVideoId(video.getVideoId());
+        job.setUserId(video.getUserId());
+        job.setExpectedDurationSeconds(video.getDuration());
+        job.setStatus(AnalysisJobStatus.PENDING);
+        job.setAttempts(0);
+        job.setLeaseOwner(null);
+        job.setLeaseUntil(null);
+        job.setAvailableAt(LocalDateTime.now(clock));
+        job.setLastError(null);
+
+        return jobRepository.save(job);
+    }
+
+    // 점유 가능한 후보 중 스케줄러가 고른 최대 limit 개를 이 워커 소유로 표시
+    @Transactional
+    public List<AnalysisJob> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Long> candidateIds = jobRepository.findClaimableIds(now, jobScheduler.candidatesPerUser(),
+                limit * Math.max(1, schedulerWindow));
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        List<AnalysisJob> candidates = jobRepository.lockClaimable(candidateIds, now);
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        List<AnalysisJob> jobs = jobScheduler.select(candidates, countActiveByUser(candidates), limit, now);
+
+        for (AnalysisJob job : jobs) {
+            if (job.getStatus() == AnalysisJobStatus.PENDING) {
+                job.setStatus(AnalysisJobStatus.STT_PROCESSING);
+            } else {
+                log.warn("점유 만료된 작업 회수: jobId={}, 이전 워커={}", job.getJobId(), job.getLeaseOwner());
+            }
+            job.setAttempts(job.getAttempts() + 1);
+            job.setLeaseOwner(workerId);
+            job.setLeaseUntil(now.plusSeconds(leaseSeconds));
+            job.setHeartbeatAt(now);
+        }
+        return jobs;
+    }
+
+    // 이 워커가 진행 중인 작업의 lease 연장
+    @Transactional
+    public int heartbeat() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return jobRepository.extendLeases(workerId, IN_PROGRESS, now.plusSeconds(leaseSeconds), now);
+    }
+
+    // 파이프라인 단계 기록 (점유 유지)
+    @Transactional
+    public void advance(Long videoId, AnalysisJobStatus status) {
+        jobRepository.findByVideoId(videoId).ifPresent(job -> job.setStatus(status));
+    }
+
+    // 워커 손을 떠난 상태로 전환 (AI 위임, 완료, 실패)
+    @Transactional
+    public void release(Long videoId, AnalysisJobStatus status) {
+        jobRepository.findByVideoId(videoId).ifPresent(job -> {
+            job.setStatus(status);
+            job.setLeaseOwner(null);
+            job.setLeaseUntil(null);
+        });
+    }
+
+    /**
+     * 실패한 작업을 백오프 후 재시도 대기열로 되돌립니다.
+     * 최대 시도 횟수를 넘기면 FAILED 로 종료하고 false 를 반환합니다.
+     */
+    @Transactional
+    public boolean retryOrFail(Long videoId, String reason) {
+        AnalysisJob job = jobRepository.findByVideoId(videoId).orElse(null);
+        if (job == null) {
+            return false;
+        }
+
+        job.setLastError(reason);
+        job.setLeaseOwner(null);
+        job.setLeaseUntil(null);
+
+        if (job.getAttempts() >= maxAttempts) {
+            job.setStatus(AnalysisJobStatus.FAILED);
+            return false;
+        }
+
+        job.setStatus(AnalysisJobStatus.PENDING);
+        job.setAvailableAt(LocalDateTime.now(clock).plusSeconds(retryBackoffSeconds * job.getAttempts()));
+        return true;
+    }
+
+    /**
+     * 멈춘 분석 복구용 재등록 - 작업 행이 없던 영상은 새로 등록하고, 있으면 시도 횟수 내에서 재시도
+     * 점유(lease)가 살아 있는 작업은 워커가 진행 중이므로 건드리지 않습니다 (LEASED).
+     */
+    @Transactional
+    public Recovery requeueStuck(Video video, String reason) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        AnalysisJob job = jobRepository.findByVideoId(video.getVideoId()).orElse(null);
+        if (job == null) {
+            enqueue(video);
+            return Recovery.REQUEUED;
+        }
+        if (job.getLeaseUntil() != null && job.getLeaseUntil().isAfter(now)) {
+            return Recovery.LEASED;
+        }
+
+        boolean exhausted = job.getAttempts() >= maxAttempts;
+        int updated = jobRepository.recoverIfLeaseExpired(video.getVideoId(), job.getStatus(),
+                exhausted ? AnalysisJobStatus.FAILED : AnalysisJobStatus.PENDING, reason,
+                now.plusSeconds(retryBackoffSeconds * job.getAttempts()), now);
+        if (updated == 0) {
+            // 확인 직후 다른 워커가 점유했거나 다른 인스턴스가 먼저 복구함
+            return Recovery.LEASED;
+        }
+        return exhausted ? Recovery.EXHAUSTED : Recovery.REQUEUED;
+    }
+
+    // 멈춘 작업 복구 결과
+    public enum Recovery {
+        REQUEUED,   // 재시도 대기열로 복귀
+        EXHAUSTED,  // 시도 횟수 초과로 FAILED 종료
+        LEASED      // 워커가 점유 중이라 복구하지 않음
+    }
+
+    /**
+     * 비동기 STT 콜백 대기 - 워커 점유를 풀고, 콜백이 timeout 안에 오지 않으면 lease 만료로 다시 점유되도록 설정
+     */
+    @Transactional
+    public void awaitCallback(Long videoId, Duration timeout) {
+        jobRepository.findByVideoId(videoId).ifPresent(job -> {
+            job.setStatus(AnalysisJobStatus.STT_PROCESSING);
+            job.setLeaseOwner(null);
+            job.setLeaseUntil(LocalDateTime.now(clock).plus(timeout));
+        });
+    }
+
+    // 콜백으로 STT 가 끝난 작업을 다시 대기열에 올림 (저장된 STT 결과로 AI 요청 단계부터 진행)
+    @Transactional
+    public void resumeAfterCallback(Long videoId) {
+        defer(videoId, Duration.ZERO);
+    }
+
+    // 워커 측 사정(Executor 포화 등)으로 처리하지 못한 작업을 시도 횟수 차감 없이 되돌림
+    @Transactional
+    public void defer(Long videoId, Duration delay) {
+        jobRepository.findByVideoId(videoId).ifPresent(job -> {
+            job.setStatus(AnalysisJobStatus.PENDING);
+            job.setAttempts(Math.max(0, job.getAttempts() - 1));
+            job.setLeaseOwner(null);
+            job.setLeaseUntil(null);
+            job.setAvailableAt(LocalDateTime.now(clock).plus(delay));
+        });
+    }
+
+    private Map<Long, Long> countActiveByUser(List<AnalysisJob> candidates) {
+        Set<Long> userIds = candidates.stream()
+                .map(AnalysisJob::getUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : jobRepository.countByUserIdInAndStatusIn(userIds, ACTIVE)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private static String resolveWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.*;
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.dto.SttTranscript;
+import com.example.linkid.repository.ChallengeRepository;
+import com.example.linkid.repository.ChildRepository;
+import com.example.linkid.repository.VideoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 분석 파이프라인 공통 단계 (블로킹 / 리액티브 파이프라인이 함께 사용)
+ * 단계별 상태 저장, AI 요청 구성, 실패 처리, 단계별 소요 시간 기록을 담당합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisPipelineSupport {
+
+    public static final String MODE_BLOCKING = "blocking";
+    public static final String MODE_REACTIVE = "reactive";
+
+    // STT 를 (다시) 시작할 수 있는 상태 - 대기 중이거나 점유 만료로 재개된 작업
+    private static final Set<VideoStatus> STT_STARTABLE = EnumSet.of(VideoStatus.QUEUED, VideoStatus.STT_PROCESSING);
+
+    // STT 결과를 저장할 수 있는 상태 - 캐시 재사용(QUEUED), 변환 직후, 저장된 결과로 재개
+    private static final Set<VideoStatus> STT_COMPLETABLE =
+            EnumSet.of(VideoStatus.QUEUED, VideoStatus.STT_PROCESSING, VideoStatus.STT_COMPLETED);
+
+    private final VideoRepository videoRepository;
+    private final ChildRepository childRepository;
+    private final ChallengeRepository challengeRepository;
+    private final AnalysisJobService analysisJobService;
+    private final AnalysisEventService analysisEventService;
+    private final MeterRegistry meterRegistry;
+    private final ExternalCallGuard externalCallGuard;
+    private final ObjectStorageService objectStorageService;
+    private final TranscriptCacheService transcriptCacheService;
+    private final SttTranscriptCodec transcriptCodec;
+    private final VideoTranscriptService videoTranscriptService;
+    private final PlatformTransactionManager transactionManager;
+
+    // 연동 대상 장애(서킷 브레이커 열림, 벌크헤드 포화)로 미룬 작업의 재점유 대기 시간
+    @Value("${analysis.job.dependency-defer-seconds:30}")
+    private long dependencyDeferSeconds;
+
+    public Video loadVideo(Long videoId) {
+        return videoRepository.findById(videoId)
+                .orElseThrow(() -> new IllegalArgumentException("영상을 찾을 수 없습니다."));
+    }
+
+    // 이전 시도에서 저장된 STT 결과 (없으면 null)
+    public SttTranscript storedSttResult(Video video) {
+        return videoTranscriptService.find(video.getVideoId()).orElse(null);
+    }
+
+    // 같은 내용의 영상이 이미 변환된 적 있으면 캐시된 STT 결과 (없으면 null)
+    // 내용 키는 비동기 STT 콜백에서도 쓰이므로 STT 요청 전에 저장
+    @Transactional
+    public SttTranscript cachedSttResult(Video video) {
+        if (video.getContentKey() == null) {
+            video.setContentKey(objectStorageService.getContentKey(video.getBucketKey()));
+            videoRepository.updateContentKey(video.getVideoId(), video.getContentKey());
+        }
+        return transcriptCacheService.lookup(video.getContentKey()).orElse(null);
+    }
+
+    /**
+     * 상태 저장은 모두 현재 상태 조건부 UPDATE 로 수행합니다.
+     * 파이프라인이 들고 있는 영상 객체를 save 로 병합하면 그 사이 콜백/리퍼가 바꾼 상태를 되돌리기 때문입니다.
+     * 다른 경로가 먼저 상태를 바꿨으면 false 를 반환하며, 호출 측은 파이프라인을 멈춥니다.
+     */
+    @Transactional
+    public boolean markSttProcessing(Video video) {
+        if (!transition(video, STT_STARTABLE, VideoStatus.STT_PROCESSING)) {
+            return false;
+        }
+        analysisEventService.publish(video);
+        return true;
+    }
+
+    // 비동기 STT 접수 토큰 기록 (상태는 요청 전에 이미 STT_PROCESSING 으로 저장됨)
+    @Transactional
+    public void recordSttToken(Video video, String sttToken) {
+        video.setSttToken(sttToken);
+        videoRepository.updateSttToken(video.getVideoId(), sttToken);
+    }
+
+    // 발화만 바이너리 형식으로 별도 테이블에 저장 (Clova 원본 응답은 보관하지 않음)
+    @Transactional
+    public boolean markSttCompleted(Video video, SttTranscript sttResult) {
+        if (!transition(video, STT_COMPLETABLE, VideoStatus.STT_COMPLETED)) {
+            return false;
+        }
+        byte[] payload = transcriptCodec.encode(sttResult);
+        transcriptCacheService.store(video.getContentKey(), payload, video.getDuration());
+        videoTranscriptService.save(video.getVideoId(), payload, sttResult.getUtterances().size());
+        analysisJobService.advance(video.getVideoId(), AnalysisJobStatus.STT_COMPLETED);
+        analysisEventService.publish(video);
+
+        log.info("STT 변환 완료. VideoId: {}", video.getVideoId());
+        return true;
+    }
+
+    // 결과 업데이트 (AI 실행 ID 저장 및 상태 변경) - STT_COMPLETED 인 영상만
+    @Transactional
+    public boolean markAiRequested(Video video, String executionId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (videoRepository.recordAiExecution(video.getVideoId(), executionId,
+                VideoStatus.STT_COMPLETED, VideoStatus.AI_ANALYZING, now) == 0) {
+            log.warn("영상 상태가 이미 바뀌어 AI 실행 ID 를 기록하지 않습니다. VideoId: {}, Execution ID: {}",
+                    video.getVideoId(), executionId);
+            return false;
+        }
+        video.setAiExecutionId(executionId);
+        video.setStatus(VideoStatus.AI_ANALYZING);
+        video.setStatusUpdatedAt(now);
+        analysisJobService.release(video.getVideoId(), AnalysisJobStatus.AI_ANALYZING);
+        analysisEventService.publish(video);
+
+        log.info("AI 분석 요청 완료. Execution ID: {}", executionId);
+        return true;
+    }
+
+    private boolean transition(Video video, Set<VideoStatus> from, VideoStatus to) {
+        LocalDateTime now = LocalDateTime.now();
+        if (videoRepository.transitionStatusFrom(video.getVideoId(), from, to, now) == 0) {
+            log.warn("영상 상태가 이미 바뀌어 파이프라인을 멈춥니다. VideoId: {}, 목표 상태: {}", video.getVideoId(), to);
+            return false;
+        }
+        video.setStatus(to);
+        video.setStatusUpdatedAt(now);
+        return true;
+    }
+
+    /**
+     * 재시도 여유가 있으면 작업 큐로 되돌리고(QUEUED), 아니면 실패 처리
+     * 연동 대상 장애로 호출조차 하지 못한 경우는 시도 횟수를 쓰지 않고 미룸
+     * 영상이 아직 실패한 단계의 상태(ownedStatus)일 때만 조건부로 전이하며, 그 사이 콜백/리퍼가 상태를 바꿨으면
+     * 작업 변경까지 되돌립니다. ownedStatus 가 null 이면(영상을 읽기 전 실패) 작업만 처리합니다.
+     */
+    public void handleFailure(Long videoId, VideoStatus ownedStatus, Throwable e) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        VideoStatus next = tx.execute(txStatus -> {
+            boolean retrying;
+            if (externalCallGuard.isUnavailable(e)) {
+                log.warn("외부 연동 불가로 작업을 미룹니다. VideoId: {}, {}", videoId, e.getMessage());
+                analysisJobService.defer(videoId, Duration.ofSeconds(dependencyDeferSeconds));
+                retrying = true;
+            } else {
+                retrying = analysisJobService.retryOrFail(videoId, e.getMessage());
+            }
+            if (ownedStatus == null) {
+                return null;
+            }
+
+            VideoStatus to = retrying ? VideoStatus.QUEUED : VideoStatus.FAILED;
+            LocalDateTime now = LocalDateTime.now();
+            if (videoRepository.transitionStatus(videoId, ownedStatus, to, now) == 0) {
+                log.warn("영상 상태가 이미 바뀌어 실패 처리를 건너뜁니다. VideoId: {}, 실패 단계 상태: {}",
+                        videoId, ownedStatus);
+                txStatus.setRollbackOnly();
+                return null;
+            }
+            if (to == VideoStatus.FAILED) {
+                videoRepository.updateErrorMessage(videoId, VideoStatus.FAILED, "분석 중 오류 발생: " + now);
+            }
+            return to;
+        });
+        if (next != null) {
+            analysisEventService.publish(videoId, next, null);
+        }
+    }
+
+    // AI 분석 요청 객체 생성 (발화 + 아이 정보 + 진행 중 챌린지)
+    public AiApiDto.AnalyzeRequest buildAnalyzeRequest(Video video, SttTranscript sttResult) {
+        // (1) Utterances (STT 결과 변환)
+        List<AiApiDto.Utterance> utterances = sttResult.getUtterances();
+
+        // (2) Meta Data (아이 정보 + 영상 태그)
+        Child child = childRepository.findById(video.getChildId())
+                .orElseThrow(() -> new IllegalArgumentException("자녀 정보를 찾을 수 없습니다."));
+
+        int age = Period.between(child.getBirthdate(), LocalDate.now()).getYears();
+
+        AiApiDto.MetaData metaData = AiApiDto.MetaData.builder()
+                .childName(child.getName())
+                .childAge(age)
+                .childGender(child.getGender().name())
+                .contextTag(video.getContextTag()) // 영상 업로드 시 받은 태그
+                .build();
+
+        // (3) Active Challenges (진행 중인 챌린지 목록)
+        List<Challenge> activeChallenges = challengeRepository.findAllByChildIdAndStatus(
+                child.getChildId(),
+                ChallengeStatus.PROCEEDING
+        );
+
+        List<AiApiDto.ChallengeSpec> challengeSpecs = activeChallenges.stream()
+                .map(challenge -> AiApiDto.ChallengeSpec.builder()
+                        .challengeId(String.valueOf(challenge.getChallengeId()))
+                        .title(challenge.getTitle())
+                        .goal(challenge.getGoal())
+                        // 챌린지 하위의 행동(Action)들의 내용을 리스트로 추출
+                        .actions(challenge.getActions().stream()
+                                .filter(action -> !action.isCompleted())
+                                .map(action -> AiApiDto.ActionSpec.builder()
+                                        .actionId(String.valueOf(action.getActionId()))
+                                        .content(action.getContent())
+                                        .build())
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+
+        return AiApiDto.AnalyzeRequest.builder()
+                .utterancesKo(utterances)
+                .challengeSpecs(challengeSpecs)
+                .meta(metaData)
+                .build();
+    }
+
+    // 단계별 소요 시간 (mode 태그로 블로킹 / 리액티브 파이프라인 비교)
+    public Timer stageTimer(String stage, String mode) {
+        return Timer.builder("analysis.pipeline.stage")
+                .tag("stage", stage)
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.linkid.service;
+
+import java.time.Duration;
+
+/**
+ * 분석 시작 요청용 토큰 버킷 Rate Limiter
+ * 구현: 인스턴스 메모리(memory, 기본) / 공유 DB(jdbc) - analysis.rate-limit.store 로 선택
+ */
+public interface AnalysisRateLimiter {
+
+    /**
+     * key 버킷에서 토큰 하나를 소비합니다.
+     * @return 소비했으면 Duration.ZERO, 토큰이 없으면 다음 토큰이 충전될 때까지 남은 시간
+     */
+    Duration tryAcquire(String key, Rule rule);
+
+    // tryAcquire 로 소비한 토큰 하나를 되돌립니다 (용량 초과 불가)
+    void refund(String key, Rule rule);
+
+    // 버킷 용량과 분당 충전량
+    record Rule(long capacity, long refillPerMinute) {
+
+        // 마지막 계산 이후 경과 시간만큼 충전 (용량 초과 불가)
+        public double refill(double tokens, long elapsedMillis) {
+            return Math.min(capacity, tokens + Math.max(0, elapsedMillis) * refillPerMinute / 60_000.0);
+        }
+
+        // 토큰 하나가 모일 때까지 남은 시간
+        public Duration timeUntilToken(double tokens) {
+            if (refillPerMinute <= 0) {
+                return Duration.ofMinutes(1);
+            }
+            long millis = (long) Math.ceil((1 - tokens) * 60_000.0 / refillPerMinute);
+            return Duration.ofMillis(Math.max(1, millis));
+        }
+    }
+}
@@ -1,149 +1,113 @@
 package com.example.linkid.service;
 
-import com.example.linkid.domain.*;
+import com.example.linkid.config.AsyncConfig;
+import com.example.linkid.domain.Video;
 import com.example.linkid.dto.AiApiDto;
-import com.example.linkid.repository.ChallengeRepository;
-import com.example.linkid.repository.ChildRepository;
-import com.example.linkid.repository.VideoRepository;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.example.linkid.dto.SttTranscript;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.Period;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.Duration;
+
+import static com.example.linkid.service.AnalysisPipelineSupport.MODE_BLOCKING;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AsyncAnalysisService {
 
-    private final VideoRepository videoRepository;
-    private final ChildRepository childRepository;
-    private final ChallengeRepository challengeRepository;
-
     private final ClovaSpeechService clovaSpeechService;
     private final ObjectStorageService objectStorageService;
     private final AiAnalysisService aiAnalysisService;
+    private final AnalysisJobService analysisJobService;
+    private final AnalysisPipelineSupport pipeline;
+
+    // 비동기 STT 콜백 대기 한도 - 넘기면 작업이 다시 점유되어 STT 를 재요청
+    @Value("${ncloud.clova-speech.callback-timeout-minutes:30}")
+    private long sttCallbackTimeoutMinutes;
 
     /**
-     * 비동기 분석 파이프라인
+     * 비동기 분석 파이프라인 (AnalysisJobWorker 가 점유한 작업을 실행)
      * STT 변환 -> (AI 분석 요청)
+     * STT/AI 호출 대기 중 DB 커넥션을 붙잡지 않도록 트랜잭션 없이 단계별로 저장합니다.
      */
-    @Async
-    @Transactional
+    @Async(AsyncConfig.ANALYSIS_EXECUTOR)
     public void processVideoAsync(Long videoId) {
         log.info("비동기 분석 파이프라인 시작 (별도 스레드): VideoId {}", videoId);
+        Video video;
         try {
-            Video video = videoRepository.findById(videoId)
-                    .orElseThrow(() -> new IllegalArgumentException("영상을 찾을 수 없습니다."));
+            video = pipeline.loadVideo(videoId);
+        } catch (Exception e) {
+            log.error("비동기 분석 중 오류 발생", e);
+            pipeline.handleFailure(videoId, null, e);
+            return;
+        }
 
-            // 1. Clova Speech STT 요청
-            // 버킷이 비공개이므로 다운로드용 Presigned URL 사용
-            String objectUrl = objectStorageService.generatePresignedDownloadUrl(video.getBucketKey());
-            log.info("Clova STT 요청 URL: {}", objectUrl);
-            JsonNode sttResult = clovaSpeechService.recognizeSpeechFromUrl(objectUrl);
+        try {
+            SttTranscript sttResult = pipeline.storedSttResult(video);
+            if (sttResult != null) {
+                // 이전 시도에서 STT 까지 완료된 경우 저장된 결과로 이어서 진행
+                log.info("저장된 STT 결과로 재개합니다. VideoId: {}", videoId);
+            } else {
+                // 같은 내용의 영상이 이미 변환된 적 있으면 Clova 호출 생략
+                sttResult = pipeline.stageTimer("stt_cache", MODE_BLOCKING).record(
+                        () -> pipeline.cachedSttResult(video));
+                if (sttResult != null) {
+                    log.info("STT 캐시 결과를 사용합니다. VideoId: {}", videoId);
+                }
+            }
 
-            video.setSttResult(sttResult.toString());
+            if (sttResult == null) {
+                if (!pipeline.markSttProcessing(video)) {
+                    return;
+                }
+
+                // 1. Clova Speech STT 요청
+                // 버킷이 비공개이므로 다운로드용 Presigned URL 사용
+                String objectUrl = pipeline.stageTimer("presign", MODE_BLOCKING).record(
+                        () -> objectStorageService.generatePresignedDownloadUrl(video.getBucketKey()));
+                log.info("Clova STT 요청 URL: {}", objectUrl);
+
+                if (clovaSpeechService.isAsyncMode()) {
+                    // 비동기 STT: 요청만 보내고 워커를 반환, 이후 단계는 Clova 콜백 수신 시 재개
+                    // 상태(STT_PROCESSING)와 콜백 대기는 요청 전에 저장 - 콜백이 먼저 도착해도 덮어쓰지 않도록
+                    analysisJobService.awaitCallback(videoId, Duration.ofMinutes(sttCallbackTimeoutMinutes));
+                    pipeline.recordSttToken(video, clovaSpeechService.requestAsyncRecognition(objectUrl, videoId));
+                    log.info("Clova 비동기 STT 요청 완료, 콜백 대기. VideoId: {}", videoId);
+                    return;
+                }
+
+                sttResult = pipeline.stageTimer("stt", MODE_BLOCKING).record(
+                        () -> clovaSpeechService.recognizeSpeechFromUrl(objectUrl));
+            }
 
             // STT 결과 확인
-            video.setStatus(VideoStatus.STT_COMPLETED);
-            video.setStatusUpdatedAt(LocalDateTime.now());
-            videoRepository.save(video);
-
-            log.info("STT 변환 완료. VideoId: {}", videoId);
-
-            // 2. AI 요청 데이터 구성
-
-            // (1) Utterances (STT 결과 변환)
-            List<AiApiDto.Utterance> utterances = parseSttToUtterances(sttResult);
-
-            // (2) Meta Data (아이 정보 + 영상 태그)
-            Child child = childRepository.findById(video.getChildId())
-                    .orElseThrow(() -> new IllegalArgumentException("자녀 정보를 찾을 수 없습니다."));
-
-            int age = Period.between(child.getBirthdate(), LocalDate.now()).getYears();
-
-            AiApiDto.MetaData metaData = AiApiDto.MetaData.builder()
-                    .childName(child.getName())
-                    .childAge(age)
-                    .childGender(child.getGender().name())
-                    .contextTag(video.getContextTag()) // 영상 업로드 시 받은 태그
-                    .build();
-
-            // (3) Active Challenges (진행 중인 챌린지 목록)
-            List<Challenge> activeChallenges = challengeRepository.findAllByChildIdAndStatus(
-                    child.getChildId(),
-                    ChallengeStatus.PROCEEDING
-            );
-
-            List<AiApiDto.ChallengeSpec> challengeSpecs = activeChallenges.stream()
-                    .map(challenge -> AiApiDto.ChallengeSpec.builder()
-                            .challengeId(String.valueOf(challenge.getChallengeId()))
-                            .title(challenge.getTitle())
-                            .goal(challenge.getGoal())
-                            // 챌린지 하위의 행동(Action)들의 내용을 리스트로 추출
-                            .actions(challenge.getActions().stream()
-                                    .filter(action -> !action.isCompleted())
-                                    .map(action -> AiApiDto.ActionSpec.builder()
-                                            .actionId(String.valueOf(action.getActionId()))
-                                            .content(action.getContent())
-                                            .build())
-                                    .collect(Collectors.toList()))
-                            .build())
-                    .collect(Collectors.toList());
-
-            // 3. AI 분석 요청 객체 생성
-            AiApiDto.AnalyzeRequest aiRequest = AiApiDto.AnalyzeRequest.builder()
-                    .utterancesKo(utterances)
-                    .challengeSpecs(challengeSpecs)
-                    .meta(metaData)
-                    .build();
-
-            // 4. AI 서버 호출
-            log.info("AI 서버로 분석 요청 전송...");
-            String executionId = aiAnalysisService.requestAnalysis(aiRequest);
+            SttTranscript transcript = sttResult;
+            Boolean saved = pipeline.stageTimer("save_stt", MODE_BLOCKING).record(
+                    () -> pipeline.markSttCompleted(video, transcript));
+            if (!Boolean.TRUE.equals(saved)) {
+                return;
+            }
+
+            // 2. AI 요청 데이터 구성 (발화 + 아이 정보 + 진행 중 챌린지)
+            AiApiDto.AnalyzeRequest aiRequest = pipeline.stageTimer("build_request", MODE_BLOCKING).record(
+                    () -> pipeline.buildAnalyzeRequest(video, transcript));
 
-            // 5. 결과 업데이트 (AI 실행 ID 저장 및 상태 변경)
-            video.setAiExecutionId(executionId);
-            video.setStatus(VideoStatus.AI_ANALYZING);
-            video.setStatusUpdatedAt(LocalDateTime.now());
-            videoRepository.save(video);
+            // 3. AI 서버 호출
+            log.info("AI 서버로 분석 요청 전송...");
+            String executionId = pipeline.stageTimer("ai_request", MODE_BLOCKING).record(
+                    () -> aiAnalysisService.requestAnalysis(aiRequest));
 
-            log.info("AI 분석 요청 완료. Execution ID: {}", executionId);
+            // 4. 결과 업데이트 (AI 실행 ID 저장 및 상태 변경)
+            pipeline.stageTimer("save_ai", MODE_BLOCKING).record(() -> pipeline.markAiRequested(video, executionId));
 
         } catch (Exception e) {
             log.error("비동기 분석 중 오류 발생", e);
-            updateStatusToFailed(videoId);
-        }
-    }
-
-    private void updateStatusToFailed(Long videoId) {
-        videoRepository.findById(videoId).ifPresent(video -> {
-            video.setStatus(VideoStatus.FAILED);
-            video.setErrorMessage("분석 중 오류 발생: " + LocalDateTime.now());
-            videoRepository.save(video);
-        });
-    }
-
-    private List<AiApiDto.Utterance> parseSttToUtterances(JsonNode sttJson) {
-        List<AiApiDto.Utterance> list = new ArrayList<>();
-        JsonNode segments = sttJson.path("segments");
-        if (segments.isArray()) {
-            for (JsonNode seg : segments) {
-                list.add(new AiApiDto.Utterance(
-                        seg.path("speaker").path("name").asText(),
-                        seg.path("text").asText(),
-                        seg.path("start").asInt()
-                ));
-            }
+            // 단계 전이마다 video 의 상태를 갱신하므로 실패한 단계가 가진 상태
+            pipeline.handleFailure(videoId, video.getStatus(), e);
         }
-        return list;
     }
-}
\ No newline at end of file
+}
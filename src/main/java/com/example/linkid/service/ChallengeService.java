@@ -3,9 +3,12 @@ package com.example.linkid.service;
 import com.example.linkid.domain.*;
 import com.example.linkid.dto.AiApiDto;
 import com.example.linkid.dto.ChallengeDto;
+import com.example.linkid.event.HomeDataChangedEvent;
 import com.example.linkid.repository.*;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,37 +22,75 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ChallengeService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final ChallengeRepository challengeRepository;
     private final AnalysisReportRepository reportRepository;
     private final UserRepository userRepository;
     private final ChildRepository childRepository;
     private final ChallengeActionRepository challengeActionRepository;
-    private final ObjectMapper objectMapper;
+    private final ReportContentService reportContentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<ChallengeDto.ChallengeListResponse> getChallengeList(String username, String statusParam) {
         User user = getUser(username);
         Child child = getChild(user);
 
-        ChallengeStatus status = "COMPLETED".equalsIgnoreCase(statusParam)
-                ? ChallengeStatus.COMPLETED : ChallengeStatus.PROCEEDING;
+        // 행동 수는 DB 에서 집계 (행동 컬렉션을 읽지 않음)
+        return challengeRepository.findProgressByChildIdAndStatus(
+                        child.getChildId(), toStatus(statusParam), Pageable.unpaged())
+                .stream()
+                .map(this::toListResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 챌린지 목록 페이지 조회 (최신순, challengeId 커서 기반)
+     * 커서가 없으면 첫 페이지. 다음 페이지 존재 여부는 한 건 더 읽어서 판단합니다.
+     */
+    @Transactional(readOnly = true)
+    public ChallengeDto.ChallengePageResponse getChallengePage(String username, String statusParam, Long cursor, Integer size) {
+        User user = getUser(username);
+        Child child = getChild(user);
 
-        List<Challenge> challenges = challengeRepository.findAllByChildIdAndStatus(child.getChildId(), status);
+        ChallengeStatus status = toStatus(statusParam);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable limit = PageRequest.of(0, pageSize + 1);
 
-        return challenges.stream().map(c -> {
-            // 진행률 계산
-            int total = c.getActions().size();
-            int done = (int) c.getActions().stream().filter(ChallengeAction::isCompleted).count();
-            int percent = total == 0 ? 0 : (done * 100 / total);
+        List<ChallengeProgressView> rows = cursor == null
+                ? challengeRepository.findProgressByChildIdAndStatus(child.getChildId(), status, limit)
+                : challengeRepository.findProgressByChildIdAndStatusBefore(child.getChildId(), status, cursor, limit);
 
-            return ChallengeDto.ChallengeListResponse.builder()
-                    .challengeId(c.getChallengeId())
-                    .title(c.getTitle())
-                    .period(formatPeriod(c.getStartDate(), c.getEndDate()))
-                    .progressPercent(percent)
-                    .status(c.getStatus().name())
-                    .build();
-        }).collect(Collectors.toList());
+        boolean hasNext = rows.size() > pageSize;
+        List<ChallengeProgressView> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return ChallengeDto.ChallengePageResponse.builder()
+                .challenges(page.stream().map(this::toListResponse).collect(Collectors.toList()))
+                .nextCursor(hasNext ? page.get(page.size() - 1).getChallengeId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private ChallengeStatus toStatus(String statusParam) {
+        return "COMPLETED".equalsIgnoreCase(statusParam)
+                ? ChallengeStatus.COMPLETED : ChallengeStatus.PROCEEDING;
+    }
+
+    private ChallengeDto.ChallengeListResponse toListResponse(ChallengeProgressView c) {
+        // 진행률 계산
+        int total = c.getTotalCount().intValue();
+        int done = c.getDoneCount().intValue();
+        int percent = total == 0 ? 0 : (done * 100 / total);
+
+        return ChallengeDto.ChallengeListResponse.builder()
+                .challengeId(c.getChallengeId())
+                .title(c.getTitle())
+                .period(formatPeriod(c.getStartDate(), c.getEndDate()))
+                .progressPercent(percent)
+                .status(c.getStatus().name())
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -95,7 +136,8 @@ public class ChallengeService {
                 .orElseThrow(() -> new IllegalArgumentException("리포트를 찾을 수 없습니다."));
 
         try {
-            AiApiDto.AiResult result = objectMapper.readValue(report.getContent(), AiApiDto.AiResult.class);
+            AiApiDto.AiResult result = reportContentService.find(report.getReportId())
+                    .orElseThrow(() -> new IllegalArgumentException("챌린지 데이터가 없습니다."));
 
             if (result.getCoaching_and_plan() == null || result.getCoaching_and_plan().getCoaching_plan() == null) {
                 throw new IllegalArgumentException("챌린지 데이터가 없습니다.");
@@ -135,6 +177,7 @@ public class ChallengeService {
             }
 
             challengeRepository.save(challenge);
+            eventPublisher.publishEvent(new HomeDataChangedEvent(child.getChildId(), "challenge_created"));
             return challenge.getChallengeId();
 
         } catch (Exception e) {
@@ -175,6 +218,8 @@ public class ChallengeService {
         }
 
         checkAndCompleteChallenge(action.getChallenge());
+        eventPublisher.publishEvent(new HomeDataChangedEvent(
+                action.getChallenge().getChild().getChildId(), "action_completed"));
 
         return ChallengeDto.CompleteActionResponse.builder()
                 .actionId(action.getActionId())
@@ -183,9 +228,9 @@ public class ChallengeService {
                 .build();
     }
 
+    // 미완료 행동 수만 조회 (방금 완료 처리한 행동은 조회 전에 flush 됨)
     private void checkAndCompleteChallenge(Challenge challenge) {
-        boolean allDone = challenge.getActions().stream()
-                .allMatch(ChallengeAction::isCompleted);
+        boolean allDone = challengeActionRepository.countIncomplete(challenge.getChallengeId()) == 0;
 
         if (allDone) {
             challenge.setStatus(ChallengeStatus.COMPLETED);
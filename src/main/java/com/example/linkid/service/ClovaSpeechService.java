@@ -1,46 +1,72 @@
 package com.example.linkid.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.example.linkid.config.ResilienceConfig;
+import com.example.linkid.config.WebClientConfig;
+import com.example.linkid.dto.SttTranscript;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class ClovaSpeechService {
 
     @Value("${ncloud.clova-speech.secret-key}")
     private String secretKey;
 
-    @Value("${ncloud.clova-speech.invoke-url}")
-    private String invokeUrl;
+    // sync: 변환 완료까지 응답 대기 / async: 요청 후 즉시 반환, 결과는 callback-url 로 수신
+    @Value("${ncloud.clova-speech.completion:sync}")
+    private String completionMode;
 
-    private final WebClient webClient = WebClient.builder().build();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Value("${ncloud.clova-speech.callback-url:}")
+    private String callbackUrl;
 
-    public JsonNode recognizeSpeechFromUrl(String mediaUrl) {
-        try {
-            Map<String, Object> requestBody = getStringObjectMap(mediaUrl);
+    // 콜백 URL 서명용 비밀값 (Clova 는 콜백에 서명을 붙이지 않으므로 URL 에 HMAC 을 포함)
+    @Value("${ncloud.clova-speech.callback-secret:}")
+    private String callbackSecret;
 
-            String response = webClient.post()
-                    .uri(invokeUrl + "/recognizer/url")
-                    .header("X-CLOVASPEECH-API-KEY", secretKey)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+    // STT 응답 최대 크기 (WebClient 코덱 한도와 동일한 설정 사용)
+    @Value("${ncloud.clova-speech.http.max-in-memory-size:20MB}")
+    private DataSize maxResponseSize;
 
-            log.info("Clova Speech 응답 (URL): {}", response);
+    // 응답 본문 로그 최대 길이 (DEBUG)
+    @Value("${ncloud.clova-speech.log-preview-bytes:2048}")
+    private int logPreviewBytes;
 
-            return objectMapper.readTree(response);
+    // Clova 전용 커넥션 풀을 쓰는 공용 클라이언트 (base-url: ncloud.clova-speech.invoke-url)
+    @Qualifier(WebClientConfig.CLOVA_WEB_CLIENT)
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final ExternalCallGuard externalCallGuard;
+    private final SttTranscriptCodec transcriptCodec;
+
+    public SttTranscript recognizeSpeechFromUrl(String mediaUrl) {
+        try {
+            return recognizeSpeechMono(mediaUrl).block();
 
         } catch (Exception e) {
             log.error("Clova Speech URL API 호출 실패", e);
@@ -53,14 +79,161 @@ public class ClovaSpeechService {
                 throw new RuntimeException("STT 처리 실패: " + errorBody, e);
             }
 
-            throw new RuntimeException("STT 처리 실패: " + e.getMessage());
+            throw new RuntimeException("STT 처리 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 동기 STT 요청 - 논블로킹 (리액티브 파이프라인용, 오류는 가공하지 않고 그대로 전달)
+     * 응답 본문을 모으지 않고 도착하는 조각을 논블로킹 JSON 파서에 바로 넣어 발화 목록만 추출합니다.
+     * 연결 단계 실패만 재시도합니다 - 응답 대기 중 끊긴 긴 변환은 Clova 에서 계속 진행(과금)되므로 다시 보내지 않음
+     * (재시도 시에는 구독마다 새 파서를 만듭니다)
+     */
+    public Mono<SttTranscript> recognizeSpeechMono(String mediaUrl) {
+        Map<String, Object> requestBody = getStringObjectMap(mediaUrl);
+
+        Flux<DataBuffer> body = webClient.post()
+                .uri("/recognizer/url")
+                .header("X-CLOVASPEECH-API-KEY", secretKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+
+        Mono<SttTranscript> response = Mono.using(
+                () -> new StreamingTranscript(transcriptCodec.newIncrementalParser()),
+                transcript -> body.doOnNext(transcript::feed).then(Mono.fromCallable(transcript::finish)),
+                StreamingTranscript::close);
+
+        return externalCallGuard.guard(ResilienceConfig.CLOVA_SPEECH, response);
+    }
+
+    // 응답 조각을 받는 대로 파서에 넣고 버퍼는 즉시 반납 (크기 한도는 WebClient 코덱 한도와 동일)
+    private final class StreamingTranscript {
+
+        private final SttTranscriptCodec.IncrementalParser parser;
+        private long size;
+
+        private StreamingTranscript(SttTranscriptCodec.IncrementalParser parser) {
+            this.parser = parser;
+        }
+
+        void feed(DataBuffer buffer) {
+            try {
+                int length = buffer.readableByteCount();
+                if (size == 0 && log.isDebugEnabled()) {
+                    log.debug("Clova Speech 응답 앞부분: {}",
+                            buffer.toString(buffer.readPosition(), Math.min(length, logPreviewBytes), StandardCharsets.UTF_8));
+                }
+                size += length;
+                if (size > maxResponseSize.toBytes()) {
+                    throw new DataBufferLimitException("STT 응답이 최대 크기를 넘었습니다: " + maxResponseSize);
+                }
+                byte[] chunk = new byte[length];
+                buffer.read(chunk);
+                parser.feed(chunk, 0, length);
+            } catch (IOException e) {
+                throw new IllegalStateException("STT 응답 파싱 실패: " + e.getMessage(), e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        SttTranscript finish() {
+            SttTranscript transcript;
+            try {
+                transcript = parser.finish();
+            } catch (IOException e) {
+                throw new IllegalStateException("STT 응답 파싱 실패: " + e.getMessage(), e);
+            }
+            if (!transcript.isCompleted()) {
+                throw new IllegalStateException("STT 처리 실패: " + transcript.getMessage());
+            }
+            log.info("Clova Speech 응답 수신: result={}, 발화 {}건, {} bytes",
+                    transcript.getResult(), transcript.getUtterances().size(), size);
+            return transcript;
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                log.debug("STT 응답 파서 종료 실패", e);
+            }
+        }
+    }
+
+    public boolean isAsyncMode() {
+        return "async".equalsIgnoreCase(completionMode);
+    }
+
+    /**
+     * 비동기 STT 요청 - Clova 작업 토큰만 받고 즉시 반환
+     * 변환 결과는 콜백 URL(/api/v1/callbacks/clova)로 전달됩니다.
+     */
+    public String requestAsyncRecognition(String mediaUrl, Long videoId) {
+        if (!StringUtils.hasText(callbackUrl) || !StringUtils.hasText(callbackSecret)) {
+            throw new IllegalStateException("Clova 비동기 모드에는 callback-url, callback-secret 설정이 필요합니다.");
+        }
+
+        try {
+            Map<String, Object> requestBody = getStringObjectMap(mediaUrl, "async");
+            // 설정된 콜백 URL 에 이미 쿼리 문자열이 있어도 파라미터를 이어 붙임
+            requestBody.put("callback", UriComponentsBuilder.fromUriString(callbackUrl)
+                    .queryParam("videoId", videoId)
+                    .queryParam("signature", sign(videoId))
+                    .toUriString());
+
+            // 접수 요청은 재시도하지 않음 (응답만 늦은 경우 재전송하면 같은 영상이 두 번 인식/과금되고 콜백도 두 번 옴)
+            String response = externalCallGuard.guardWithoutRetry(ResilienceConfig.CLOVA_SPEECH, webClient.post()
+                    .uri("/recognizer/url")
+                    .header("X-CLOVASPEECH-API-KEY", secretKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(String.class)).block();
+
+            String token = objectMapper.readTree(response).path("token").asText(null);
+            log.info("Clova Speech 비동기 요청 접수. VideoId: {}, token: {}", videoId, token);
+            return token;
+
+        } catch (WebClientResponseException e) {
+            log.error("Clova API 오류 응답 본문: {}", e.getResponseBodyAsString());
+            throw new RuntimeException("STT 비동기 요청 실패: " + e.getResponseBodyAsString(), e);
+        } catch (Exception e) {
+            throw new RuntimeException("STT 비동기 요청 실패: " + e.getMessage(), e);
+        }
+    }
+
+    // 콜백 URL 서명 검증
+    public boolean isValidCallbackSignature(Long videoId, String signature) {
+        if (!StringUtils.hasText(callbackSecret) || videoId == null || signature == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sign(videoId).getBytes(StandardCharsets.UTF_8),
+                signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String sign(Long videoId) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(callbackSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] digest = mac.doFinal(String.valueOf(videoId).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (Exception e) {
+            throw new IllegalStateException("콜백 서명 생성 실패", e);
         }
     }
 
     private static Map<String, Object> getStringObjectMap(String mediaUrl) {
+        return getStringObjectMap(mediaUrl, "sync");
+    }
+
+    private static Map<String, Object> getStringObjectMap(String mediaUrl, String completion) {
         Map<String, Object> params = Map.of(
                 "language", "ko-KR",
-                "completion", "sync",
+                "completion", completion,
                 "wordAlignment", false,
                 "fullText", false,
                 "diarization", Map.of(
@@ -0,0 +1,60 @@
+package com.example.linkid.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 호출에 연동 대상별 벌크헤드 -> 서킷 브레이커 -> 재시도 순으로 보호 장치를 씌웁니다.
+ * 브레이커가 열려 있거나 벌크헤드가 가득 차면 호출하지 않고 즉시 실패합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalCallGuard {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final RetryRegistry retryRegistry;
+    private final MeterRegistry meterRegistry;
+
+    // 재시도 포함 - 연결 단계 실패(ResilienceConfig.CONNECT_ERROR)만 재시도하므로 요청이 상대 서버에 닿은 뒤에는 다시 보내지 않음
+    public <T> Mono<T> guard(String dependency, Mono<T> call) {
+        return guardWithoutRetry(dependency, call)
+                .transformDeferred(RetryOperator.of(retryRegistry.retry(dependency)));
+    }
+
+    // 재시도 없이 보호 (주기적으로 다시 호출되는 상태 조회, 멱등하지 않은 작업 접수 요청)
+    public <T> Mono<T> guardWithoutRetry(String dependency, Mono<T> call) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(dependency);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(dependency);
+
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .doOnError(this::isUnavailable, e -> meterRegistry.counter("external.call.rejected",
+                        "dependency", dependency,
+                        "reason", e instanceof CallNotPermittedException ? "circuit_open" : "bulkhead_full")
+                        .increment());
+    }
+
+    // 연동 대상 장애로 호출 자체를 하지 않은 경우 (작업을 실패 처리하지 않고 미룰 대상)
+    public boolean isUnavailable(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof CallNotPermittedException || t instanceof BulkheadFullException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
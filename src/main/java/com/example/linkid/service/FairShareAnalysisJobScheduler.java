@@ -0,0 +1,85 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.AnalysisJob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 공정 분배 + 예상 비용 기반 스케줄러
+ * 우선순위 = 대기 시간 x agingWeight - 영상 길이 x costWeight - 사용자 진행 중 작업 수 x userPenaltySeconds
+ * 짧은 영상과 진행 중인 작업이 적은 사용자를 먼저 실행하되, 기다린 시간만큼 점수가 올라가므로 긴 영상도 밀려나지 않습니다.
+ * (기본값 기준: 10분 영상은 1분 영상보다 9분 더 기다리면 같은 순위)
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.job.scheduler", havingValue = "fair-share", matchIfMissing = true)
+public class FairShareAnalysisJobScheduler implements AnalysisJobScheduler {
+
+    private final double agingWeight;
+    private final double costWeight;
+    private final double userPenaltySeconds;
+    // 사용자별 후보 수 (오래된 순) - 같은 사용자의 작업끼리도 비용을 비교할 수 있도록 기본 2
+    private final int candidatesPerUser;
+
+    public FairShareAnalysisJobScheduler(
+            @Value("${analysis.job.fair-share.aging-weight:1.0}") double agingWeight,
+            @Value("${analysis.job.fair-share.cost-weight:1.0}") double costWeight,
+            @Value("${analysis.job.fair-share.user-penalty-seconds:300}") double userPenaltySeconds,
+            @Value("${analysis.job.fair-share.candidates-per-user:2}") int candidatesPerUser) {
+        this.agingWeight = agingWeight;
+        this.costWeight = costWeight;
+        this.userPenaltySeconds = userPenaltySeconds;
+        this.candidatesPerUser = Math.max(1, candidatesPerUser);
+    }
+
+    @Override
+    public List<AnalysisJob> select(List<AnalysisJob> candidates, Map<Long, Long> activeJobsByUser,
+                                    int limit, LocalDateTime now) {
+        List<AnalysisJob> remaining = new ArrayList<>(candidates);
+        Map<Long, Long> active = new HashMap<>(activeJobsByUser);
+        List<AnalysisJob> selected = new ArrayList<>();
+
+        // 한 건 고를 때마다 해당 사용자의 진행 중 수를 늘려 같은 배치 안에서도 사용자 간 번갈아 배정
+        while (selected.size() < limit && !remaining.isEmpty()) {
+            AnalysisJob best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (AnalysisJob job : remaining) {
+                double score = score(job, active, now);
+                if (best == null || score > bestScore
+                        || (score == bestScore && job.getJobId() < best.getJobId())) {
+                    best = job;
+                    bestScore = score;
+                }
+            }
+
+            remaining.remove(best);
+            selected.add(best);
+            if (best.getUserId() != null) {
+                active.merge(best.getUserId(), 1L, Long::sum);
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public int candidatesPerUser() {
+        return candidatesPerUser;
+    }
+
+    double score(AnalysisJob job, Map<Long, Long> activeJobsByUser, LocalDateTime now) {
+        long waitedSeconds = job.getAvailableAt() != null
+                ? Math.max(0, Duration.between(job.getAvailableAt(), now).toSeconds())
+                : 0;
+        int cost = job.getExpectedDurationSeconds() != null ? job.getExpectedDurationSeconds() : 0;
+        long userActive = job.getUserId() != null ? activeJobsByUser.getOrDefault(job.getUserId(), 0L) : 0;
+
+        return waitedSeconds * agingWeight - cost * costWeight - userActive * userPenaltySeconds;
+    }
+}
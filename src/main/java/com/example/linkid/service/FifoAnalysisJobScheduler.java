@@ -0,0 +1,33 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.AnalysisJob;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 등록 순서대로 실행
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.job.scheduler", havingValue = "fifo")
+public class FifoAnalysisJobScheduler implements AnalysisJobScheduler {
+
+    @Override
+    public List<AnalysisJob> select(List<AnalysisJob> candidates, Map<Long, Long> activeJobsByUser,
+                                    int limit, LocalDateTime now) {
+        return candidates.stream()
+                .sorted(Comparator.comparing(AnalysisJob::getJobId))
+                .limit(limit)
+                .toList();
+    }
+
+    // 등록 순서를 그대로 따르므로 사용자별 제한 없음
+    @Override
+    public int candidatesPerUser() {
+        return Integer.MAX_VALUE;
+    }
+}
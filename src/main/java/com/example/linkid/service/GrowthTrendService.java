@@ -0,0 +1,141 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.AnalysisReport;
+import com.example.linkid.domain.GrowthTrend;
+import com.example.linkid.domain.ReportCategoryRatio;
+import com.example.linkid.repository.AnalysisReportRepository;
+import com.example.linkid.repository.ChildRepository;
+import com.example.linkid.repository.GrowthTrendRepository;
+import com.example.linkid.repository.ReportCategoryRatioRepository;
+import com.example.linkid.repository.ReportScoreView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아이별 성장 추이 (PI / NDI / QI, 부모 상호작용 범주별 비율)
+ * 리포트 저장 시 지표마다 최근 N회 값만 갱신하므로 이력 길이와 무관하게 일정한 비용으로 반영됩니다.
+ * 집계 기준(analysis.trend.window)이 바뀐 아이는 다음 반영 시 이력에서 다시 계산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GrowthTrendService {
+
+    public static final String PI = "pi";
+    public static final String NDI = "ndi";
+    public static final String QI = "qi";
+    public static final String CATEGORY_PREFIX = "category:";
+
+    private final GrowthTrendRepository trendRepository;
+    private final ChildRepository childRepository;
+    private final AnalysisReportRepository reportRepository;
+    private final ReportCategoryRatioRepository ratioRepository;
+
+    @Value("${analysis.trend.window:10}")
+    private int windowSize;
+
+    @Transactional(readOnly = true)
+    public List<GrowthTrend> trends(Long childId) {
+        return trendRepository.findAllByChildId(childId);
+    }
+
+    /**
+     * 저장된 리포트 1건을 추이에 반영 (리포트와 범주 비율 저장 후 같은 트랜잭션에서 호출)
+     * 같은 아이의 분석이 동시에 끝나도 순서대로 반영되도록 아이 행을 잠급니다.
+     */
+    @Transactional
+    public void record(AnalysisReport report) {
+        Long childId = report.getChildId();
+        childRepository.findByIdForUpdate(childId);
+
+        List<GrowthTrend> trends = trendRepository.findAllByChildId(childId);
+        if (trends.stream().anyMatch(trend -> trend.getWindowSize() != windowSize)) {
+            log.info("추이 집계 기준 변경으로 다시 계산합니다. ChildId: {}, window: {}", childId, windowSize);
+            rebuild(childId);
+            return;
+        }
+
+        Map<String, GrowthTrend> byMetric = trends.stream()
+                .collect(Collectors.toMap(GrowthTrend::getMetric, Function.identity()));
+        observations(report).forEach((metric, value) -> {
+            GrowthTrend trend = byMetric.computeIfAbsent(metric, m -> GrowthTrend.of(childId, m, windowSize));
+            TrendWindow window = TrendWindow.restore(windowSize, trend.getWindowValues());
+            window.push(value);
+            trend.setSessionCount(trend.getSessionCount() + 1);
+            apply(trend, window);
+        });
+        trendRepository.saveAll(byMetric.values());
+    }
+
+    /**
+     * 아이의 전체 리포트 이력으로 추이를 다시 계산 (백필, 집계 기준 변경)
+     * 백필 중 같은 아이의 리포트가 저장되어도 반영이 빠지거나 두 번 되지 않도록 record 와 같은 아이 행 잠금을 잡습니다.
+     */
+    @Transactional
+    public void rebuild(Long childId) {
+        childRepository.findByIdForUpdate(childId);
+        trendRepository.deleteAllInBatch(trendRepository.findAllByChildId(childId));
+
+        Map<String, List<Double>> history = new LinkedHashMap<>();
+        for (ReportScoreView score : reportRepository.findAllByChildIdOrderByReportIdAsc(childId)) {
+            addScore(history, PI, score.getPiScore());
+            addScore(history, NDI, score.getNdiScore());
+            addScore(history, QI, score.getQiScore());
+        }
+        for (ReportCategoryRatio ratio : ratioRepository.findAllByChildIdOrderByReportIdAsc(childId)) {
+            history.computeIfAbsent(CATEGORY_PREFIX + ratio.getLabel(), m -> new ArrayList<>()).add(ratio.getRatio());
+        }
+
+        List<GrowthTrend> trends = new ArrayList<>();
+        history.forEach((metric, values) -> {
+            TrendWindow window = new TrendWindow(windowSize);
+            values.forEach(window::push);
+            GrowthTrend trend = GrowthTrend.of(childId, metric, windowSize);
+            trend.setSessionCount(values.size());
+            apply(trend, window);
+            trends.add(trend);
+        });
+        trendRepository.saveAll(trends);
+    }
+
+    // 리포트 1건의 지표별 값 (값이 없는 지표는 제외)
+    private Map<String, Double> observations(AnalysisReport report) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        putScore(values, PI, report.getPiScore());
+        putScore(values, NDI, report.getNdiScore());
+        putScore(values, QI, report.getQiScore());
+        for (ReportCategoryRatio ratio : ratioRepository.findAllByReportId(report.getReportId())) {
+            values.put(CATEGORY_PREFIX + ratio.getLabel(), ratio.getRatio());
+        }
+        return values;
+    }
+
+    private void putScore(Map<String, Double> values, String metric, BigDecimal score) {
+        if (score != null) {
+            values.put(metric, score.doubleValue());
+        }
+    }
+
+    private void addScore(Map<String, List<Double>> history, String metric, BigDecimal score) {
+        if (score != null) {
+            history.computeIfAbsent(metric, m -> new ArrayList<>()).add(score.doubleValue());
+        }
+    }
+
+    private void apply(GrowthTrend trend, TrendWindow window) {
+        trend.setWindowValues(window.encode());
+        trend.setLatestValue(window.latest());
+        trend.setAverage(window.average());
+        trend.setMinValue(window.min());
+        trend.setMaxValue(window.max());
+        trend.setSlope(window.slope());
+    }
+}
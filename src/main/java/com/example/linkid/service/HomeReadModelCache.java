@@ -0,0 +1,19 @@
+package com.example.linkid.service;
+
+import com.example.linkid.dto.HomeDto;
+
+import java.util.function.Function;
+
+/**
+ * 아이별 홈 화면 응답 캐시
+ * 저장소(analysis.home-cache.store)에 따라 인스턴스 로컬 또는 공유 저장소 구현을 사용합니다.
+ * 구현은 evict 가 진행 중인 loader 실행과 겹치더라도 무효화가 유실되지 않아야 합니다.
+ * (무효화 이후에 이전 데이터로 만든 응답이 남으면 안 됨)
+ */
+public interface HomeReadModelCache {
+
+    // 캐시에 없으면 loader 로 만들어 저장
+    HomeDto.HomeResponse get(Long childId, Function<Long, HomeDto.HomeResponse> loader);
+
+    void evict(Long childId);
+}
@@ -1,24 +1,31 @@
 package com.example.linkid.service;
 
-import com.example.linkid.domain.AnalysisReport;
 import com.example.linkid.domain.Challenge;
 import com.example.linkid.domain.ChallengeStatus;
 import com.example.linkid.domain.Child;
 import com.example.linkid.domain.User;
 import com.example.linkid.dto.HomeDto;
+import com.example.linkid.event.HomeDataChangedEvent;
 import com.example.linkid.repository.AnalysisReportRepository;
 import com.example.linkid.repository.ChallengeRepository;
 import com.example.linkid.repository.ChildRepository;
+import com.example.linkid.repository.ReportScoreView;
 import com.example.linkid.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,19 +36,57 @@ public class HomeService {
     private final ChildRepository childRepository;
     private final AnalysisReportRepository reportRepository;
     private final ChallengeRepository challengeRepository;
+    private final GrowthTrendService growthTrendService;
+    private final HomeReadModelCache homeCache;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
 
-    @Transactional(readOnly = true)
+    /**
+     * 홈 화면 데이터 (아이별 캐시)
+     * 리포트 저장, 챌린지 생성/상태 변경, 행동 완료 시 HomeDataChangedEvent 로 무효화되며,
+     * 캐시 적중 시에는 아이 조회 한 번으로 응답합니다.
+     * 아이 조회와 응답 생성은 트랜잭션을 나눕니다. 하나의 트랜잭션이면 MySQL REPEATABLE READ 스냅샷이
+     * 아이 조회 시점에 잡혀, 그 뒤 커밋하고 무효화한 변경을 loader 가 보지 못한 채 이전 데이터를 캐시에 넣습니다.
+     */
     public HomeDto.HomeResponse getHomeData(String username) {
-        User user = userRepository.findByLoginId(username)
-                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
-        Child child = childRepository.findFirstByUser(user)
-                .orElseThrow(() -> new IllegalArgumentException("자녀를 찾을 수 없습니다."));
+        Child child = childRepository.findFirstByUser_LoginId(username)
+                .orElseGet(() -> {
+                    // 유저가 없는 경우와 자녀가 없는 경우를 구분해서 안내
+                    User user = userRepository.findByLoginId(username)
+                            .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
+                    return childRepository.findFirstByUser(user)
+                            .orElseThrow(() -> new IllegalArgumentException("자녀를 찾을 수 없습니다."));
+                });
 
-        // 성장 리포트 데이터 조회 (최근 5개)
-        List<AnalysisReport> recentReports = reportRepository.findTop5ByChildIdOrderByCreatedAtDesc(child.getChildId());
+        AtomicBoolean built = new AtomicBoolean();
+        HomeDto.HomeResponse response = homeCache.get(child.getChildId(), childId -> {
+            built.set(true);
+            return meterRegistry.timer("home.read_model.build").record(() -> buildInNewTransaction(childId));
+        });
+        meterRegistry.counter("home.read_model.requests", "result", built.get() ? "miss" : "hit").increment();
+        return response;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHomeDataChanged(HomeDataChangedEvent event) {
+        homeCache.evict(event.childId());
+    }
+
+    // 캐시 미스가 확정된 뒤 새 스냅샷으로 읽음 (그 이후의 무효화는 진행 중인 loader 가 끝난 뒤 적용됨)
+    private HomeDto.HomeResponse buildInNewTransaction(Long childId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        tx.setReadOnly(true);
+        return tx.execute(status -> buildHomeData(childId));
+    }
+
+    private HomeDto.HomeResponse buildHomeData(Long childId) {
+        // 성장 리포트 데이터 조회 (최근 5개, 점수 컬럼만)
+        List<ReportScoreView> recentReports = new ArrayList<>(
+                reportRepository.findTop5ByChildIdOrderByCreatedAtDesc(childId));
 
         // 날짜 오름차순으로 재정렬
-        recentReports.sort(Comparator.comparing(AnalysisReport::getCreatedAt));
+        recentReports.sort(Comparator.comparing(ReportScoreView::getCreatedAt));
 
         DateTimeFormatter dateFmt = DateTimeFormatter.ofPattern("MM.dd");
 
@@ -60,14 +105,28 @@ public class HomeService {
                 ))
                 .collect(Collectors.toList());
 
+        // 지표별 추이 (리포트 저장 시 미리 계산된 값)
+        List<HomeDto.Trend> trends = growthTrendService.trends(childId).stream()
+                .map(t -> HomeDto.Trend.builder()
+                        .metric(t.getMetric())
+                        .sessions(t.getSessionCount())
+                        .latest(t.getLatestValue())
+                        .average(t.getAverage())
+                        .min(t.getMinValue())
+                        .max(t.getMaxValue())
+                        .slope(t.getSlope())
+                        .build())
+                .collect(Collectors.toList());
+
         HomeDto.GrowthReport growthReport = HomeDto.GrowthReport.builder()
                 .qiScoreHistory(qiHistory)
                 .piNdiHistory(piNdiHistory)
+                .trends(trends)
                 .build();
 
         // 이번 주 핵심 챌린지 조회 (진행 중인 최신 1개)
         Optional<Challenge> activeChallengeOpt = challengeRepository
-                .findFirstByChildChildIdAndStatusOrderByCreatedAtDesc(child.getChildId(), ChallengeStatus.PROCEEDING);
+                .findFirstByChildChildIdAndStatusOrderByCreatedAtDesc(childId, ChallengeStatus.PROCEEDING);
 
         HomeDto.ActiveChallenge activeChallengeDto = null;
         if (activeChallengeOpt.isPresent()) {
@@ -0,0 +1,69 @@
+package com.example.linkid.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인스턴스 로컬 토큰 버킷 - 단일 인스턴스 운영 또는 인스턴스별 한도로 충분한 경우
+ * 한동안 쓰이지 않은 버킷은 가득 찬 버킷과 같으므로 idle 시간이 지나면 제거합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryAnalysisRateLimiter implements AnalysisRateLimiter {
+
+    private final Cache<String, Bucket> buckets;
+
+    public InMemoryAnalysisRateLimiter(
+            @Value("${analysis.rate-limit.memory.idle-expire-minutes:60}") long idleExpireMinutes) {
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(idleExpireMinutes))
+                .build();
+    }
+
+    @Override
+    public Duration tryAcquire(String key, Rule rule) {
+        Bucket bucket = bucket(key, rule);
+        synchronized (bucket) {
+            refill(bucket, rule);
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return Duration.ZERO;
+            }
+            return rule.timeUntilToken(bucket.tokens);
+        }
+    }
+
+    @Override
+    public void refund(String key, Rule rule) {
+        Bucket bucket = bucket(key, rule);
+        synchronized (bucket) {
+            refill(bucket, rule);
+            bucket.tokens = Math.min(rule.capacity(), bucket.tokens + 1);
+        }
+    }
+
+    private Bucket bucket(String key, Rule rule) {
+        return buckets.get(key, k -> new Bucket(rule.capacity(), System.currentTimeMillis()));
+    }
+
+    private void refill(Bucket bucket, Rule rule) {
+        long now = System.currentTimeMillis();
+        bucket.tokens = rule.refill(bucket.tokens, now - bucket.refilledAt);
+        bucket.refilledAt = now;
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.linkid.service;
+
+import com.example.linkid.dto.HomeDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 인스턴스 로컬 홈 캐시
+ * 같은 키의 loader 실행 중 들어온 무효화는 loader 가 끝난 뒤 적용되므로 이전 데이터가 남지 않습니다.
+ * 다른 인스턴스에서 발생한 변경은 전달되지 않으므로 ttl 후에 반영됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.home-cache.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryHomeReadModelCache implements HomeReadModelCache {
+
+    private final Cache<Long, HomeDto.HomeResponse> cache;
+
+    public InMemoryHomeReadModelCache(
+            @Value("${analysis.home-cache.max-size:10000}") long maxSize,
+            @Value("${analysis.home-cache.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "home.read_model");
+    }
+
+    @Override
+    public HomeDto.HomeResponse get(Long childId, Function<Long, HomeDto.HomeResponse> loader) {
+        return cache.get(childId, loader);
+    }
+
+    @Override
+    public void evict(Long childId) {
+        cache.invalidate(childId);
+    }
+}
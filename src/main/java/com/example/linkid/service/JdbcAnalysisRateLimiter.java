@@ -0,0 +1,51 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.RateLimitBucket;
+import com.example.linkid.repository.RateLimitBucketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+/**
+ * DB 공유 토큰 버킷 - 여러 인스턴스가 하나의 한도를 나눠 써야 하는 경우
+ * 버킷 행을 비관적 잠금으로 읽고 갱신하므로 같은 키에 대한 요청은 직렬화됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.rate-limit.store", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class JdbcAnalysisRateLimiter implements AnalysisRateLimiter {
+
+    private final RateLimitBucketRepository bucketRepository;
+
+    // 호출 측 트랜잭션과 무관하게 버킷 잠금을 바로 풀도록 별도 트랜잭션에서 처리
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Duration tryAcquire(String key, Rule rule) {
+        long now = System.currentTimeMillis();
+        bucketRepository.insertIfAbsent(key, rule.capacity(), now);
+
+        RateLimitBucket bucket = bucketRepository.findForUpdate(key)
+                .orElseThrow(() -> new IllegalStateException("Rate limit 버킷을 찾을 수 없습니다: " + key));
+
+        double tokens = rule.refill(bucket.getTokens(), now - bucket.getRefilledAt());
+        bucket.setRefilledAt(Math.max(now, bucket.getRefilledAt()));
+
+        if (tokens >= 1) {
+            bucket.setTokens(tokens - 1);
+            return Duration.ZERO;
+        }
+        bucket.setTokens(tokens);
+        return rule.timeUntilToken(tokens);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refund(String key, Rule rule) {
+        bucketRepository.findForUpdate(key).ifPresent(bucket ->
+                bucket.setTokens(Math.min(rule.capacity(), bucket.getTokens() + 1)));
+    }
+}
@@ -3,6 +3,7 @@ package com.example.linkid.service;
 import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -71,4 +72,21 @@ public class ObjectStorageService {
     public String getObjectUrl(String bucketKey) {
         return amazonS3.getUrl(bucketName, bucketKey).toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * 객체 내용 식별 키 (ETag + 크기) - STT 결과 캐시 키로 사용
+     * 단일 업로드 객체의 ETag 는 내용의 MD5 이며, 조회에 실패하면 null 을 반환합니다.
+     */
+    public String getContentKey(String bucketKey) {
+        try {
+            ObjectMetadata metadata = amazonS3.getObjectMetadata(bucketName, bucketKey);
+            if (metadata.getETag() == null) {
+                return null;
+            }
+            return metadata.getETag() + ":" + metadata.getContentLength();
+        } catch (Exception e) {
+            log.warn("객체 메타데이터 조회 실패: {}", bucketKey, e);
+            return null;
+        }
+    }
+}
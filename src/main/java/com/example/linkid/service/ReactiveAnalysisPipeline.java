@@ -0,0 +1,128 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.Video;
+import com.example.linkid.domain.VideoStatus;
+import com.example.linkid.dto.SttTranscript;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.linkid.service.AnalysisPipelineSupport.MODE_REACTIVE;
+
+/**
+ * 리액티브 분석 파이프라인 (analysis.pipeline.mode=reactive)
+ * presign -> STT -> 저장 -> 요청 구성 -> AI 요청 -> 저장 을 하나의 Mono 체인으로 구성합니다.
+ * 외부 호출은 이벤트 루프에서 대기 없이 진행되고, 블로킹인 JPA 호출만 boundedElastic 으로 옮겨 실행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveAnalysisPipeline {
+
+    private final ClovaSpeechService clovaSpeechService;
+    private final ObjectStorageService objectStorageService;
+    private final AiAnalysisService aiAnalysisService;
+    private final AnalysisJobService analysisJobService;
+    private final AnalysisPipelineSupport pipeline;
+
+    @Value("${analysis.pipeline.stt-timeout-minutes:30}")
+    private long sttTimeoutMinutes;
+
+    // 재시도까지 포함한 AI 요청 전체 한도
+    @Value("${analysis.pipeline.ai-request-timeout-seconds:120}")
+    private long aiRequestTimeoutSeconds;
+
+    @Value("${analysis.pipeline.reactive-max-inflight:200}")
+    private int maxInflight;
+
+    @Value("${ncloud.clova-speech.callback-timeout-minutes:30}")
+    private long sttCallbackTimeoutMinutes;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    // 워커가 추가로 투입할 수 있는 작업 수
+    public int freeCapacity() {
+        return maxInflight - inflight.get();
+    }
+
+    public Mono<Void> process(Long videoId) {
+        return Mono.defer(() -> {
+                    inflight.incrementAndGet();
+                    log.info("리액티브 분석 파이프라인 시작: VideoId {}", videoId);
+                    return jpa("load", () -> pipeline.loadVideo(videoId));
+                })
+                // 영상을 읽기 전 실패 - 작업만 처리
+                .onErrorResume(e -> fail(videoId, null, e).then(Mono.<Video>empty()))
+                .flatMap(video -> transcribe(video)
+                        // 다른 경로가 상태를 바꿨으면 null -> 빈 Mono 로 파이프라인 종료
+                        .flatMap(sttResult -> jpa("save_stt", () -> pipeline.markSttCompleted(video, sttResult)
+                                        ? pipeline.buildAnalyzeRequest(video, sttResult) : null)
+                                .flatMap(request -> timed("ai_request", aiAnalysisService.requestAnalysisMono(request)
+                                        .timeout(Duration.ofSeconds(aiRequestTimeoutSeconds))))
+                                .flatMap(executionId -> jpa("save_ai", () -> {
+                                    pipeline.markAiRequested(video, executionId);
+                                    return executionId;
+                                })))
+                        .then()
+                        // 단계 전이마다 video 의 상태를 갱신하므로 실패한 단계가 가진 상태
+                        .onErrorResume(e -> fail(videoId, video.getStatus(), e)))
+                .doFinally(signal -> inflight.decrementAndGet());
+    }
+
+    private Mono<Void> fail(Long videoId, VideoStatus ownedStatus, Throwable e) {
+        log.error("리액티브 분석 중 오류 발생: VideoId {}", videoId, e);
+        return jpa("fail", () -> {
+            pipeline.handleFailure(videoId, ownedStatus, e);
+            return videoId;
+        }).then();
+    }
+
+    // STT 결과 확보 - 저장된 결과나 같은 내용의 캐시가 있으면 재사용, 비동기 STT 모드면 요청만 하고 빈 Mono (콜백에서 재개)
+    private Mono<SttTranscript> transcribe(Video video) {
+        // fromCallable 은 null 을 빈 Mono 로 취급하므로 저장된 결과가 없으면 새로 STT 요청
+        Mono<SttTranscript> stored = jpa("load_stt", () -> pipeline.storedSttResult(video))
+                .doOnNext(result -> log.info("저장된 STT 결과로 재개합니다. VideoId: {}", video.getVideoId()));
+
+        Mono<SttTranscript> fresh = jpa("presign", () -> pipeline.markSttProcessing(video)
+                ? objectStorageService.generatePresignedDownloadUrl(video.getBucketKey()) : null
+        ).flatMap(objectUrl -> {
+            if (clovaSpeechService.isAsyncMode()) {
+                return jpa("stt_submit", () -> {
+                    // 상태(STT_PROCESSING)와 콜백 대기는 요청 전에 저장 - 콜백이 먼저 도착해도 덮어쓰지 않도록
+                    analysisJobService.awaitCallback(video.getVideoId(), Duration.ofMinutes(sttCallbackTimeoutMinutes));
+                    pipeline.recordSttToken(video,
+                            clovaSpeechService.requestAsyncRecognition(objectUrl, video.getVideoId()));
+                    log.info("Clova 비동기 STT 요청 완료, 콜백 대기. VideoId: {}", video.getVideoId());
+                    return objectUrl;
+                }).then(Mono.empty());
+            }
+            return timed("stt", clovaSpeechService.recognizeSpeechMono(objectUrl)
+                    .timeout(Duration.ofMinutes(sttTimeoutMinutes)));
+        });
+
+        Mono<SttTranscript> cached = jpa("stt_cache", () -> pipeline.cachedSttResult(video))
+                .doOnNext(result -> log.info("STT 캐시 결과를 사용합니다. VideoId: {}", video.getVideoId()));
+
+        return stored.switchIfEmpty(cached).switchIfEmpty(fresh);
+    }
+
+    // 블로킹(JPA 등) 호출만 boundedElastic 스케줄러로 이동
+    private <T> Mono<T> jpa(String stage, Callable<T> callable) {
+        return timed(stage, Mono.fromCallable(callable).subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    // 구독 시점부터 결과 수신까지의 단계 소요 시간 기록
+    private <T> Mono<T> timed(String stage, Mono<T> mono) {
+        return mono.elapsed()
+                .doOnNext(tuple -> pipeline.stageTimer(stage, MODE_REACTIVE).record(tuple.getT1(), TimeUnit.MILLISECONDS))
+                .map(tuple -> tuple.getT2());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.ReportCategoryRatio;
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.repository.ReportCategoryRatioRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 리포트별 부모 상호작용 범주 비율 저장/조회
+ * 성장 변화량 계산 시 이전 리포트 내용을 파싱하지 않고 reportId 인덱스 조회로 비율을 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportCategoryRatioService {
+
+    private final ReportCategoryRatioRepository ratioRepository;
+
+    // 아이의 가장 최근 리포트의 label -> 비율 (리포트가 없거나 범주 정보가 없으면 빈 맵)
+    @Transactional(readOnly = true)
+    public Map<String, Double> latestRatios(Long childId) {
+        return toMap(ratioRepository.findAllOfLatestReportByChildId(childId));
+    }
+
+    // 특정 리포트의 label -> 비율
+    @Transactional(readOnly = true)
+    public Map<String, Double> ratios(Long reportId) {
+        return toMap(ratioRepository.findAllByReportId(reportId));
+    }
+
+    // 범주 정보가 없으면 저장하지 않음. 저장한 행 수 반환
+    @Transactional
+    public int record(Long reportId, Long childId, AiApiDto.AiResult result) {
+        if (result.getStyle_analysis() == null ||
+                result.getStyle_analysis().getInteractionStyle() == null ||
+                result.getStyle_analysis().getInteractionStyle().getParentAnalysis() == null ||
+                result.getStyle_analysis().getInteractionStyle().getParentAnalysis().getCategories() == null) {
+            return 0;
+        }
+
+        // 같은 label 이 여러 번 오면 첫 값 사용
+        Map<String, ReportCategoryRatio> byLabel = new LinkedHashMap<>();
+        for (AiApiDto.Category category : result.getStyle_analysis().getInteractionStyle().getParentAnalysis().getCategories()) {
+            if (category.getLabel() != null && category.getRatio() != null) {
+                byLabel.putIfAbsent(category.getLabel(), ReportCategoryRatio.of(
+                        reportId, childId, category.getLabel(), category.getName(), category.getRatio()));
+            }
+        }
+        List<ReportCategoryRatio> saved = ratioRepository.saveAll(byLabel.values());
+        return saved.size();
+    }
+
+    private static Map<String, Double> toMap(List<ReportCategoryRatio> ratios) {
+        return ratios.stream()
+                .collect(Collectors.toMap(ReportCategoryRatio::getLabel, ReportCategoryRatio::getRatio));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.linkid.service;
+
+import com.example.linkid.dto.AiApiDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * 파싱된 리포트 내용(AiResult) 캐시 - reportId 기준
+ * 리포트는 저장 후 바뀌지 않으므로 만료 시간 없이 저장 크기(인코딩된 바이트 수) 합계로만 제한합니다.
+ * 적중/미스/제거 통계는 cache.* 메트릭(cache=report.content)으로 노출됩니다.
+ * 캐시된 객체는 여러 요청이 함께 사용하므로 호출하는 쪽에서 수정하면 안 됩니다.
+ */
+@Component
+public class ReportContentCache {
+
+    public static final String NAME = "report.content";
+
+    private final Cache<Long, Entry> cache;
+
+    public ReportContentCache(
+            @Value("${analysis.report.content-cache.max-bytes:33554432}") long maxBytes,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long reportId, Entry entry) -> entry.bytes())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+    }
+
+    // 없으면 loader 로 읽어 저장. loader 가 null 을 반환하면(내용 없음, 파싱 실패) 저장하지 않음
+    public AiApiDto.AiResult get(Long reportId, Function<Long, Entry> loader) {
+        Entry entry = cache.get(reportId, loader);
+        return entry != null ? entry.result() : null;
+    }
+
+    // 내용을 다시 쓴 경우(형식 변환, 재저장) 호출
+    public void invalidate(Long reportId) {
+        cache.invalidate(reportId);
+    }
+
+    public record Entry(AiApiDto.AiResult result, int bytes) {
+    }
+}
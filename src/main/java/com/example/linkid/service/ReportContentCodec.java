@@ -0,0 +1,62 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.AnalysisReportContent;
+import com.example.linkid.domain.ReportContentFormat;
+import com.example.linkid.dto.AiApiDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 리포트 상세 내용(AiResult) 직렬화
+ * 텍스트 JSON 과 Smile 바이너리를 모두 읽고, 쓸 때는 지정한 형식 하나로만 저장합니다.
+ * Smile 매퍼는 애플리케이션 ObjectMapper 설정(모듈, 역직렬화 옵션)을 그대로 복사해 사용합니다.
+ */
+@Component
+public class ReportContentCodec {
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+
+    public ReportContentCodec(ObjectMapper objectMapper) {
+        this.jsonMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    }
+
+    public AiApiDto.AiResult decode(AnalysisReportContent content) throws IOException {
+        return switch (content.getFormat()) {
+            case JSON -> jsonMapper.readValue(content.getContent(), AiApiDto.AiResult.class);
+            case SMILE -> smileMapper.readValue(content.getPayload(), AiApiDto.AiResult.class);
+        };
+    }
+
+    // 저장된 크기 (JSON 은 문자 수로 근사)
+    public int storedSize(AnalysisReportContent content) {
+        return switch (content.getFormat()) {
+            case JSON -> content.getContent().length();
+            case SMILE -> content.getPayload().length;
+        };
+    }
+
+    // 지정 형식으로 저장하고 다른 형식 컬럼은 비움. 저장된 바이트 수를 반환
+    public int write(AnalysisReportContent target, AiApiDto.AiResult result, ReportContentFormat format) {
+        try {
+            target.setFormat(format);
+            if (format == ReportContentFormat.SMILE) {
+                target.setPayload(smileMapper.writeValueAsBytes(result));
+                target.setContent(null);
+                return target.getPayload().length;
+            }
+            byte[] json = jsonMapper.writeValueAsBytes(result);
+            target.setContent(new String(json, StandardCharsets.UTF_8));
+            target.setPayload(null);
+            return json.length;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.AnalysisReportContent;
+import com.example.linkid.domain.ReportContentFormat;
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.repository.AnalysisReportContentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 리포트 상세 내용 저장/조회 - 상세 화면, 챌린지 생성 등 내용이 필요한 경우에만 읽습니다.
+ * 읽을 때는 행에 기록된 형식(JSON / SMILE)을 따르고, 새로 쓸 때는 설정된 형식을 사용합니다.
+ * 이전 형식 컬럼(analysis_report.content)이 남아 있는 동안은 아직 이관되지 않은 리포트를 원본 JSON 에서 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportContentService {
+
+    private final AnalysisReportContentRepository contentRepository;
+    private final ReportContentCodec contentCodec;
+    private final ReportContentCache contentCache;
+    private final MeterRegistry meterRegistry;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 원본 컬럼 삭제가 확인되면 false (이후로는 조회하지 않음)
+    private volatile boolean legacyColumn = true;
+
+    // 새로 저장하는 형식 (JSON 으로 되돌려도 기존 SMILE 행은 그대로 읽힘)
+    @Value("${analysis.report.content-format:SMILE}")
+    private ReportContentFormat writeFormat;
+
+    // 내용이 없거나 파싱에 실패하면 빈 값. 파싱 결과는 ReportContentCache 에 보관
+    @Transactional(readOnly = true)
+    public Optional<AiApiDto.AiResult> find(Long reportId) {
+        return Optional.ofNullable(contentCache.get(reportId, this::load));
+    }
+
+    private ReportContentCache.Entry load(Long reportId) {
+        AnalysisReportContent content = contentRepository.findById(reportId).orElseGet(() -> findLegacy(reportId));
+        if (content == null) {
+            return null;
+        }
+        try {
+            return new ReportContentCache.Entry(contentCodec.decode(content), contentCodec.storedSize(content));
+        } catch (Exception e) {
+            log.error("리포트 내용 파싱 오류: reportId={}, format={}", reportId, content.getFormat(), e);
+            return null;
+        }
+    }
+
+    // 이관 전 리포트 - 원본 JSON 을 저장하지 않는 임시 내용 행으로 감싸 같은 경로로 디코딩
+    private AnalysisReportContent findLegacy(Long reportId) {
+        if (!legacyColumn) {
+            return null;
+        }
+        try {
+            List<String> legacy = jdbcTemplate.queryForList(
+                    "SELECT content FROM analysis_report WHERE report_id = ? AND content IS NOT NULL", String.class, reportId);
+            if (legacy.isEmpty()) {
+                return null;
+            }
+            AnalysisReportContent content = new AnalysisReportContent();
+            content.setReportId(reportId);
+            content.setFormat(ReportContentFormat.JSON);
+            content.setContent(legacy.get(0));
+            return content;
+        } catch (BadSqlGrammarException e) {
+            legacyColumn = false;
+            log.info("analysis_report.content 컬럼이 없어 이전 형식 리포트 내용 조회를 중단합니다.");
+            return null;
+        }
+    }
+
+    @Transactional
+    public void save(Long reportId, AiApiDto.AiResult result) {
+        try {
+            AnalysisReportContent content = contentRepository.findById(reportId).orElseGet(AnalysisReportContent::new);
+            content.setReportId(reportId);
+            record(contentCodec.write(content, result, writeFormat));
+            contentRepository.save(content);
+            contentCache.invalidate(reportId);
+        } catch (Exception e) {
+            log.error("리포트 내용 변환 오류: reportId={}", reportId, e);
+        }
+    }
+
+    // 이미 직렬화된 JSON 저장 (마이그레이션) - 이후 형식 변환 배치가 설정 형식으로 바꿈
+    @Transactional
+    public void save(Long reportId, String json) {
+        AnalysisReportContent content = contentRepository.findById(reportId).orElseGet(AnalysisReportContent::new);
+        content.setReportId(reportId);
+        content.setFormat(ReportContentFormat.JSON);
+        content.setContent(json);
+        content.setPayload(null);
+        contentRepository.save(content);
+        contentCache.invalidate(reportId);
+    }
+
+    /**
+     * 설정 형식이 아닌 행을 다시 인코딩 (ReportContentUpgrader)
+     * 여러 인스턴스가 같은 행을 처리해도 결과가 같으므로 별도 잠금 없이 덮어씁니다.
+     * 변환했으면 true, 이미 설정 형식이거나 읽을 수 없는 행이면 false
+     */
+    @Transactional
+    public boolean upgrade(Long reportId) {
+        AnalysisReportContent content = contentRepository.findById(reportId).orElse(null);
+        if (content == null || content.getFormat() == writeFormat) {
+            return false;
+        }
+        try {
+            AiApiDto.AiResult result = contentCodec.decode(content);
+            record(contentCodec.write(content, result, writeFormat));
+            contentCache.invalidate(reportId);
+            return true;
+        } catch (Exception e) {
+            log.error("리포트 내용 형식 변환 실패 (원본 유지): reportId={}, format={}", reportId, content.getFormat(), e);
+            return false;
+        }
+    }
+
+    public ReportContentFormat writeFormat() {
+        return writeFormat;
+    }
+
+    private void record(int bytes) {
+        meterRegistry.summary("analysis.report.content.bytes", "format", writeFormat.name()).record(bytes);
+    }
+}
@@ -9,13 +9,18 @@ import com.example.linkid.dto.ReportDto;
 import com.example.linkid.repository.AnalysisReportRepository;
 import com.example.linkid.repository.ChallengeRepository;
 import com.example.linkid.repository.ChildRepository;
+import com.example.linkid.repository.ReportSummaryView;
 import com.example.linkid.repository.UserRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -25,32 +30,59 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ReportService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final UserRepository userRepository;
     private final ChildRepository childRepository;
     private final AnalysisReportRepository reportRepository;
     private final ChallengeRepository challengeRepository;
-    private final ObjectMapper objectMapper;
+    private final ReportContentService reportContentService;
 
     @Transactional(readOnly = true)
     public List<ReportDto.ReportListResponse> getReportList(String username) {
         User user = getUser(username);
         Child child = getChild(user);
 
-        List<AnalysisReport> reports = reportRepository.findAllByChildIdOrderByCreatedAtDesc(child.getChildId());
+        // 요약 컬럼만 조회 (상세 내용은 별도 테이블)
+        List<ReportSummaryView> reports = reportRepository.findSummariesByChildId(child.getChildId());
 
         return reports.stream()
-                .map(report -> ReportDto.ReportListResponse.builder()
-                        .reportId(report.getReportId())
-                        .createdAt(report.getCreatedAt())
-                        .contextTag(report.getVideo().getContextTag())
-                        .durationSeconds(report.getVideo().getDuration() != null ? report.getVideo().getDuration() : 0) // 저장된 duration 사용
-                        .relationshipStatus(report.getRelationshipStatus())
-                        .piScore(report.getPiScore())
-                        .ndiScore(report.getNdiScore())
-                        .build())
+                .map(this::toListResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 리포트 목록 페이지 조회 (최신순, (createdAt, reportId) 커서 기반)
+     * 커서가 없으면 첫 페이지. 다음 페이지 존재 여부는 한 건 더 읽어서 판단합니다.
+     */
+    @Transactional(readOnly = true)
+    public ReportDto.ReportPageResponse getReportPage(String username, String cursor, Integer size) {
+        User user = getUser(username);
+        Child child = getChild(user);
+
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ReportSummaryView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = reportRepository.findSummaryPage(child.getChildId(), limit);
+        } else {
+            String[] position = decodeCursor(cursor);
+            rows = reportRepository.findSummaryPageBefore(child.getChildId(),
+                    LocalDateTime.parse(position[0]), Long.parseLong(position[1]), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ReportSummaryView> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return ReportDto.ReportPageResponse.builder()
+                .reports(page.stream().map(this::toListResponse).collect(Collectors.toList()))
+                .nextCursor(hasNext ? encodeCursor(page.get(page.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public ReportDto.ReportDetailResponse getReportDetail(Long reportId, String username) {
         User user = getUser(username);
@@ -62,15 +94,8 @@ public class ReportService {
             throw new IllegalArgumentException("접근 권한이 없습니다.");
         }
 
-        // Content JSON 파싱
-        AiApiDto.AiResult aiContent = null;
-        try {
-            if (report.getContent() != null && !report.getContent().isEmpty()) {
-                aiContent = objectMapper.readValue(report.getContent(), AiApiDto.AiResult.class);
-            }
-        } catch (Exception e) {
-            log.error("리포트 상세 조회 중 JSON 파싱 오류: reportId={}", reportId, e);
-        }
+        // Content JSON 파싱 (상세 조회 시에만 내용 테이블 접근)
+        AiApiDto.AiResult aiContent = reportContentService.find(reportId).orElse(null);
 
         Optional<Challenge> challengeOpt = challengeRepository.findBySourceReport_ReportId(reportId);
 
@@ -93,6 +118,35 @@ public class ReportService {
                 .build();
     }
 
+    private ReportDto.ReportListResponse toListResponse(ReportSummaryView report) {
+        return ReportDto.ReportListResponse.builder()
+                .reportId(report.getReportId())
+                .createdAt(report.getCreatedAt())
+                .contextTag(report.getContextTag())
+                .durationSeconds(report.getDurationSeconds() != null ? report.getDurationSeconds() : 0) // 저장된 duration 사용
+                .relationshipStatus(report.getRelationshipStatus())
+                .piScore(report.getPiScore())
+                .ndiScore(report.getNdiScore())
+                .build();
+    }
+
+    // 커서 = base64url("createdAt|reportId") - 클라이언트는 값을 해석하지 않고 그대로 전달
+    private String encodeCursor(ReportSummaryView last) {
+        String position = last.getCreatedAt() + "|" + last.getReportId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            LocalDateTime.parse(position[0]);
+            Long.parseLong(position[1]);
+            return position;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
     private User getUser(String username) {
         return userRepository.findByLoginId(username)
                 .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
@@ -0,0 +1,309 @@
+package com.example.linkid.service;
+
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.dto.SttTranscript;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * STT 결과 토큰 단위 파서 / 직렬화
+ * Clova 응답(segments)과 JSON 요약 형식(utterances)을 모두 읽으며,
+ * 트리(JsonNode)를 만들지 않고 화자 이름, 발화, 시작 시간만 꺼내고 나머지(words 등)는 건너뜁니다.
+ * 파싱은 논블로킹 파서(IncrementalParser)로 하므로 응답 본문을 받는 대로 조각 단위로 넣을 수 있습니다.
+ * 저장용으로는 열 단위 + Deflate 압축 바이너리 형식(encode/decode)을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SttTranscriptCodec {
+
+    // 바이너리 형식 헤더 (매직 바이트 + 버전)
+    private static final byte MAGIC = 'S';
+    private static final byte VERSION = 1;
+
+    private final ObjectMapper objectMapper;
+
+    public SttTranscript parse(InputStream in) throws IOException {
+        try (IncrementalParser parser = newIncrementalParser()) {
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                parser.feed(chunk, 0, read);
+            }
+            return parser.finish();
+        }
+    }
+
+    public SttTranscript parse(String json) throws IOException {
+        try (IncrementalParser parser = newIncrementalParser()) {
+            byte[] utf8 = json.getBytes(StandardCharsets.UTF_8);
+            parser.feed(utf8, 0, utf8.length);
+            return parser.finish();
+        }
+    }
+
+    public IncrementalParser newIncrementalParser() throws IOException {
+        return new IncrementalParser(objectMapper.getFactory().createNonBlockingByteArrayParser());
+    }
+
+    /**
+     * 바이너리 저장 형식 - 헤더 뒤를 Deflate 로 압축
+     * result | 발화 수 | 화자 사전 | 화자 인덱스 열 | 시작 시간 열(이전 값과의 차이) | 발화 텍스트 열
+     * 같은 종류의 값끼리 모아 두어 압축률을 높입니다.
+     */
+    public byte[] encode(SttTranscript transcript) {
+        List<AiApiDto.Utterance> utterances = transcript.getUtterances();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(MAGIC);
+        bytes.write(VERSION);
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            writeString(out, transcript.getResult() != null ? transcript.getResult() : "");
+            writeVarInt(out, utterances.size());
+
+            Map<String, Integer> speakers = new LinkedHashMap<>();
+            for (AiApiDto.Utterance utterance : utterances) {
+                speakers.putIfAbsent(nullToEmpty(utterance.getSpeaker()), speakers.size());
+            }
+            writeVarInt(out, speakers.size());
+            for (String speaker : speakers.keySet()) {
+                writeString(out, speaker);
+            }
+            for (AiApiDto.Utterance utterance : utterances) {
+                writeVarInt(out, speakers.get(nullToEmpty(utterance.getSpeaker())));
+            }
+
+            int previous = 0;
+            for (AiApiDto.Utterance utterance : utterances) {
+                int timestamp = utterance.getTimestamp() != null ? utterance.getTimestamp() : 0;
+                int delta = timestamp - previous;
+                writeVarInt(out, (delta << 1) ^ (delta >> 31)); // zigzag (역순 시간도 허용)
+                previous = timestamp;
+            }
+
+            for (AiApiDto.Utterance utterance : utterances) {
+                writeString(out, nullToEmpty(utterance.getText()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("STT 결과 인코딩 실패", e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    public SttTranscript decode(byte[] payload) {
+        if (payload == null || payload.length < 2 || payload[0] != MAGIC) {
+            throw new IllegalArgumentException("STT 바이너리 형식이 아닙니다.");
+        }
+        if (payload[1] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 STT 바이너리 버전입니다: " + payload[1]);
+        }
+
+        Inflater inflater = new Inflater();
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(
+                new ByteArrayInputStream(payload, 2, payload.length - 2), inflater))) {
+            String result = readString(in);
+            int count = readVarInt(in);
+
+            String[] speakers = new String[readVarInt(in)];
+            for (int i = 0; i < speakers.length; i++) {
+                speakers[i] = readString(in);
+            }
+            int[] speakerIndexes = new int[count];
+            for (int i = 0; i < count; i++) {
+                speakerIndexes[i] = readVarInt(in);
+            }
+            int[] timestamps = new int[count];
+            int previous = 0;
+            for (int i = 0; i < count; i++) {
+                int zigzag = readVarInt(in);
+                previous += (zigzag >>> 1) ^ -(zigzag & 1);
+                timestamps[i] = previous;
+            }
+
+            List<AiApiDto.Utterance> utterances = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                utterances.add(new AiApiDto.Utterance(speakers[speakerIndexes[i]], readString(in), timestamps[i]));
+            }
+            return new SttTranscript(result.isEmpty() ? null : result, null, utterances);
+        } catch (IOException e) {
+            throw new UncheckedIOException("STT 결과 디코딩 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] utf8 = new byte[readVarInt(in)];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 varint");
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * 조각 단위 STT 결과 파서 - feed 로 받은 만큼 토큰을 읽고, 토큰이 잘리면 다음 조각을 기다립니다.
+     * 전체 본문을 모으지 않으므로 메모리에는 현재 조각과 읽은 발화 목록만 남습니다.
+     * 중첩 깊이: 최상위 객체 1 / 발화 배열 2 / 발화 객체 3 / 화자 객체 4
+     */
+    public static final class IncrementalParser implements AutoCloseable {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+
+        private int depth;
+        private boolean started;
+        private boolean inUtterances;
+        private boolean inSpeaker;
+
+        private String result;
+        private String message;
+        private final List<AiApiDto.Utterance> utterances = new ArrayList<>();
+
+        // 읽고 있는 발화
+        private String speaker;
+        private String text;
+        private int timestamp;
+
+        private IncrementalParser(JsonParser parser) {
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        public void feed(byte[] bytes, int offset, int length) throws IOException {
+            feeder.feedInput(bytes, offset, offset + length);
+            drain();
+        }
+
+        public SttTranscript finish() throws IOException {
+            feeder.endOfInput();
+            drain();
+            if (!started || depth != 0) {
+                throw new JsonParseException(parser, "STT 결과 JSON 이 완결되지 않았습니다.");
+            }
+            return new SttTranscript(result, message, utterances);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                handle(token);
+            }
+        }
+
+        private void handle(JsonToken token) throws IOException {
+            if (token == JsonToken.FIELD_NAME) {
+                return;
+            }
+            if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                depth--;
+                if (depth == 1) {
+                    inUtterances = false;
+                } else if (depth == 2 && inUtterances && token == JsonToken.END_OBJECT) {
+                    utterances.add(new AiApiDto.Utterance(speaker, text, timestamp));
+                } else if (depth == 3) {
+                    inSpeaker = false;
+                }
+                return;
+            }
+
+            if (depth == 0) {
+                if (started || token != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "STT 결과가 JSON 객체가 아닙니다.");
+                }
+                started = true;
+            } else if (depth == 1) {
+                readTopLevel(token, parser.currentName());
+            } else if (depth == 2 && inUtterances && token == JsonToken.START_OBJECT) {
+                speaker = "";
+                text = "";
+                timestamp = 0;
+            } else if (depth == 3 && inUtterances) {
+                readUtteranceField(token, parser.currentName());
+            } else if (depth == 4 && inSpeaker && "name".equals(parser.currentName())) {
+                speaker = parser.getValueAsString("");
+            }
+
+            if (token.isStructStart()) {
+                depth++;
+            }
+        }
+
+        private void readTopLevel(JsonToken token, String field) throws IOException {
+            switch (field) {
+                case "result" -> result = parser.getValueAsString();
+                case "message" -> message = parser.getValueAsString();
+                case "segments", "utterances" -> inUtterances = token == JsonToken.START_ARRAY;
+                default -> {
+                }
+            }
+        }
+
+        private void readUtteranceField(JsonToken token, String field) throws IOException {
+            switch (field) {
+                case "text" -> text = parser.getValueAsString("");
+                case "start", "timestamp" -> timestamp = parser.getValueAsInt();
+                // Clova 는 {"label", "name"} 객체, 요약 형식은 문자열
+                case "speaker" -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        inSpeaker = true;
+                    } else {
+                        speaker = parser.getValueAsString("");
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+}
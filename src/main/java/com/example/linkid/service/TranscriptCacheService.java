@@ -0,0 +1,97 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.TranscriptCache;
+import com.example.linkid.dto.SttTranscript;
+import com.example.linkid.repository.TranscriptCacheRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * STT 결과 캐시 (영상 내용 키 -> Clova 응답)
+ * 적중/미스는 analysis.stt.cache(result 태그), 절약한 STT 영상 길이는 analysis.stt.cache.saved.seconds 로 기록됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TranscriptCacheService {
+
+    private final TranscriptCacheRepository cacheRepository;
+    private final SttTranscriptCodec transcriptCodec;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${analysis.stt-cache.enabled:true}")
+    private boolean enabled;
+
+    @Transactional
+    public Optional<SttTranscript> lookup(String contentKey) {
+        if (!enabled || contentKey == null) {
+            return Optional.empty();
+        }
+
+        Optional<TranscriptCache> cached = cacheRepository.findByContentKey(contentKey);
+        if (cached.isEmpty()) {
+            meterRegistry.counter("analysis.stt.cache", "result", "miss").increment();
+            return Optional.empty();
+        }
+
+        TranscriptCache entry = cached.get();
+        try {
+            SttTranscript sttResult = transcriptCodec.decode(entry.getPayload());
+            entry.setHitCount(entry.getHitCount() + 1);
+            entry.setLastHitAt(LocalDateTime.now());
+
+            meterRegistry.counter("analysis.stt.cache", "result", "hit").increment();
+            if (entry.getDurationSeconds() != null) {
+                meterRegistry.counter("analysis.stt.cache.saved.seconds").increment(entry.getDurationSeconds());
+            }
+            log.info("STT 캐시 적중: contentKey={}, hitCount={}", contentKey, entry.getHitCount());
+            return Optional.of(sttResult);
+        } catch (Exception e) {
+            // 손상된 항목은 버리고 다시 변환
+            log.warn("STT 캐시 항목 파싱 실패, 삭제합니다: contentKey={}", contentKey, e);
+            cacheRepository.delete(entry);
+            meterRegistry.counter("analysis.stt.cache", "result", "miss").increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 동시에 같은 내용이 변환된 경우 먼저 저장된 항목을 유지 (payload: SttTranscriptCodec 바이너리 형식)
+     * 호출자 트랜잭션 안에서 unique 위반이 나면 그 트랜잭션이 rollback-only 가 되어 커밋 시 UnexpectedRollbackException 이 나므로,
+     * 저장은 별도 트랜잭션(REQUIRES_NEW)에서 하고 위반은 그 트랜잭션만 롤백합니다.
+     */
+    public void store(String contentKey, byte[] payload, Integer durationSeconds) {
+        if (!enabled || contentKey == null) {
+            return;
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            tx.executeWithoutResult(status -> {
+                if (cacheRepository.findByContentKey(contentKey).isPresent()) {
+                    return;
+                }
+                TranscriptCache entry = new TranscriptCache();
+                entry.setContentKey(contentKey);
+                entry.setPayload(payload);
+                entry.setDurationSeconds(durationSeconds);
+                cacheRepository.saveAndFlush(entry);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("이미 저장된 STT 캐시 항목입니다: contentKey={}", contentKey);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.linkid.service;
+
+import java.util.ArrayDeque;
+import java.util.stream.Collectors;
+
+/**
+ * 최근 N회 값의 이동 집계 (평균, 최소/최대, 기울기)
+ * 합계와 (회차 index x 값) 합계를 값이 들어오고 나갈 때마다 갱신하므로 이력을 다시 훑지 않습니다.
+ * 기울기는 회차 index(0..n-1)에 대한 최소제곱 직선의 기울기입니다. (회당 변화량)
+ */
+public final class TrendWindow {
+
+    private final int capacity;
+    private final ArrayDeque<Double> values;
+    private double sum;
+    private double sumXY;
+
+    public TrendWindow(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("window 크기는 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.values = new ArrayDeque<>(capacity);
+    }
+
+    // 저장된 값("1.0,2.5,...")으로 복원 - 합계는 값에서 다시 계산해 누적 오차를 없앰
+    public static TrendWindow restore(int capacity, String encoded) {
+        TrendWindow window = new TrendWindow(capacity);
+        if (encoded != null && !encoded.isEmpty()) {
+            for (String value : encoded.split(",")) {
+                window.push(Double.parseDouble(value));
+            }
+        }
+        return window;
+    }
+
+    public void push(double value) {
+        if (values.size() == capacity) {
+            // 가장 오래된 값이 빠지면 나머지 값의 index 가 하나씩 당겨짐
+            sum -= values.removeFirst();
+            sumXY -= sum;
+        }
+        sumXY += values.size() * value;
+        sum += value;
+        values.addLast(value);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    public double latest() {
+        return values.getLast();
+    }
+
+    public double average() {
+        return sum / values.size();
+    }
+
+    public double min() {
+        return values.stream().mapToDouble(Double::doubleValue).min().orElseThrow();
+    }
+
+    public double max() {
+        return values.stream().mapToDouble(Double::doubleValue).max().orElseThrow();
+    }
+
+    // 값이 2개 미만이면 0
+    public double slope() {
+        int n = values.size();
+        if (n < 2) {
+            return 0;
+        }
+        double sumX = n * (n - 1) / 2.0;
+        double sumXX = (n - 1) * n * (2.0 * n - 1) / 6.0;
+        return (n * sumXY - sumX * sum) / (n * sumXX - sumX * sumX);
+    }
+
+    public String encode() {
+        return values.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.VideoTranscript;
+import com.example.linkid.dto.SttTranscript;
+import com.example.linkid.repository.VideoTranscriptRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 영상별 STT 결과 저장소 - 필요한 시점(AI 요청 구성 등)에만 읽어 디코딩합니다.
+ * 이전 형식 컬럼(video.stt_result)이 남아 있는 동안은 아직 이관되지 않은 영상을 원본 JSON 에서 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VideoTranscriptService {
+
+    private final VideoTranscriptRepository transcriptRepository;
+    private final SttTranscriptCodec transcriptCodec;
+    private final MeterRegistry meterRegistry;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 원본 컬럼 삭제가 확인되면 false (이후로는 조회하지 않음)
+    private volatile boolean legacyColumn = true;
+
+    @Transactional(readOnly = true)
+    public Optional<SttTranscript> find(Long videoId) {
+        Optional<VideoTranscript> stored = transcriptRepository.findById(videoId);
+        if (stored.isPresent()) {
+            return Optional.of(transcriptCodec.decode(stored.get().getPayload()));
+        }
+        return findLegacy(videoId);
+    }
+
+    private Optional<SttTranscript> findLegacy(Long videoId) {
+        if (!legacyColumn) {
+            return Optional.empty();
+        }
+        try {
+            List<String> legacy = jdbcTemplate.queryForList(
+                    "SELECT stt_result FROM video WHERE video_id = ? AND stt_result IS NOT NULL", String.class, videoId);
+            return legacy.isEmpty() ? Optional.empty() : Optional.of(transcriptCodec.parse(legacy.get(0)));
+        } catch (BadSqlGrammarException e) {
+            legacyColumn = false;
+            log.info("video.stt_result 컬럼이 없어 이전 형식 STT 결과 조회를 중단합니다.");
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("이전 형식 STT 결과 파싱 실패: VideoId=" + videoId, e);
+        }
+    }
+
+    @Transactional
+    public void save(Long videoId, SttTranscript sttResult) {
+        save(videoId, transcriptCodec.encode(sttResult), sttResult.getUtterances().size());
+    }
+
+    // 이미 인코딩된 결과 저장 (캐시 재사용, 마이그레이션)
+    @Transactional
+    public void save(Long videoId, byte[] payload, int utteranceCount) {
+        VideoTranscript transcript = transcriptRepository.findById(videoId).orElseGet(VideoTranscript::new);
+        transcript.setVideoId(videoId);
+        transcript.setPayload(payload);
+        transcript.setUtteranceCount(utteranceCount);
+        transcriptRepository.save(transcript);
+
+        meterRegistry.summary("analysis.transcript.payload.bytes").record(payload.length);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.linkid.repository;
+
+import com.example.linkid.domain.AnalysisJob;
+import com.example.linkid.domain.AnalysisJobStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class AnalysisJobRepositoryTest {
+
+    @Autowired
+    private AnalysisJobRepository jobRepository;
+
+    @Test
+    void findClaimable_returnsDuePendingAndExpiredLeases() {
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.saveAllAndFlush(List.of(
+                job(1L, AnalysisJobStatus.PENDING, now.minusSeconds(1), null),
+                job(2L, AnalysisJobStatus.PENDING, now.plusMinutes(5), null),
+                job(3L, AnalysisJobStatus.STT_PROCESSING, now.minusMinutes(10), now.minusSeconds(5)),
+                job(4L, AnalysisJobStatus.STT_COMPLETED, now.minusMinutes(10), now.plusMinutes(1)),
+                job(5L, AnalysisJobStatus.AI_ANALYZING, now.minusMinutes(10), null),
+                job(6L, AnalysisJobStatus.FAILED, now.minusMinutes(10), null)
+        ));
+
+        List<AnalysisJob> claimable = claimable(now, Integer.MAX_VALUE, 10);
+
+        assertThat(claimable).extracting(AnalysisJob::getVideoId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void findClaimable_respectsBatchLimit() {
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.saveAllAndFlush(List.of(
+                job(11L, AnalysisJobStatus.PENDING, now.minusSeconds(3), null),
+                job(12L, AnalysisJobStatus.PENDING, now.minusSeconds(2), null),
+                job(13L, AnalysisJobStatus.PENDING, now.minusSeconds(1), null)
+        ));
+
+        List<AnalysisJob> claimable = claimable(now, Integer.MAX_VALUE, 2);
+
+        assertThat(claimable).extracting(AnalysisJob::getVideoId).containsExactly(11L, 12L);
+    }
+
+    @Test
+    void findClaimableIds_capsCandidatesPerUser() {
+        LocalDateTime now = LocalDateTime.now();
+        List<AnalysisJob> jobs = List.of(
+                job(31L, AnalysisJobStatus.PENDING, now.minusSeconds(5), null),
+                job(32L, AnalysisJobStatus.PENDING, now.minusSeconds(4), null),
+                job(33L, AnalysisJobStatus.PENDING, now.minusSeconds(3), null),
+                job(34L, AnalysisJobStatus.PENDING, now.minusSeconds(2), null),
+                job(35L, AnalysisJobStatus.PENDING, now.minusSeconds(1), null));
+        jobs.get(4).setUserId(2L);
+        jobRepository.saveAllAndFlush(jobs);
+
+        // 사용자 1 의 대기 작업이 앞에 몰려 있어도 사용자 2 의 작업이 후보에 오름
+        List<AnalysisJob> claimable = claimable(now, 2, 3);
+
+        assertThat(claimable).extracting(AnalysisJob::getVideoId).containsExactly(31L, 32L, 35L);
+    }
+
+    @Test
+    void recoverIfLeaseExpired_skipsLiveLeaseAndChangedStatus() {
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.saveAllAndFlush(List.of(
+                job(21L, AnalysisJobStatus.STT_PROCESSING, now.minusMinutes(10), now.plusMinutes(1)),
+                job(22L, AnalysisJobStatus.STT_PROCESSING, now.minusMinutes(10), now.minusSeconds(1)),
+                job(23L, AnalysisJobStatus.STT_COMPLETED, now.minusMinutes(10), null)
+        ));
+
+        assertThat(recover(21L, now)).isZero();
+        assertThat(recover(22L, now)).isEqualTo(1);
+        assertThat(recover(23L, now)).isZero();
+        // 같은 작업을 두 번째로 복구하려는 쪽은 상태가 이미 바뀌어 있어 실패
+        assertThat(recover(22L, now)).isZero();
+
+        assertThat(jobRepository.findByVideoId(21L).orElseThrow().getStatus()).isEqualTo(AnalysisJobStatus.STT_PROCESSING);
+        assertThat(jobRepository.findByVideoId(22L).orElseThrow().getStatus()).isEqualTo(AnalysisJobStatus.PENDING);
+    }
+
+    private List<AnalysisJob> claimable(LocalDateTime now, int perUser, int limit) {
+        List<Long> ids = jobRepository.findClaimableIds(now, perUser, limit);
+        return ids.isEmpty() ? List.of() : jobRepository.lockClaimable(ids, now);
+    }
+
+    private int recover(Long videoId, LocalDateTime now) {
+        return jobRepository.recoverIfLeaseExpired(videoId, AnalysisJobStatus.STT_PROCESSING,
+                AnalysisJobStatus.PENDING, "stuck", now, now);
+    }
+
+    private AnalysisJob job(Long videoId, AnalysisJobStatus status, LocalDateTime availableAt, LocalDateTime leaseUntil) {
+        AnalysisJob job = new AnalysisJob();
+        job.setVideoId(videoId);
+        job.setUserId(1L);
+        job.setStatus(status);
+        job.setAvailableAt(availableAt);
+        job.setLeaseUntil(leaseUntil);
+        return job;
+    }
+}
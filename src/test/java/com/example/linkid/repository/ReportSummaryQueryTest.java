@@ -0,0 +1,149 @@
+package com.example.linkid.repository;
+
+import com.example.linkid.domain.AnalysisReport;
+import com.example.linkid.domain.AnalysisReportContent;
+import com.example.linkid.domain.Video;
+import com.example.linkid.domain.VideoStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포트 수백 개를 가진 아이의 목록/홈 조회 비교
+ * 기존 방식(엔티티 + 상세 내용 컬럼을 한 번에 조회)과 요약 projection 의 쿼리 수, 엔티티 로딩 수, 읽은 내용 크기를 비교하고,
+ * 커서 기반 페이지 조회가 페이지당 쿼리 한 번으로 전체를 순서대로 읽는지 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReportSummaryQueryTest {
+
+    private static final long CHILD_ID = 1L;
+    private static final int REPORTS = 300;
+    private static final int CONTENT_CHARS = 20_000; // AI 결과 JSON 한 건 크기 수준
+
+    @Autowired
+    private AnalysisReportRepository reportRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        String content = "{\"summary\":\"" + "가".repeat(CONTENT_CHARS) + "\"}";
+        for (int i = 0; i < REPORTS; i++) {
+            Video video = new Video();
+            video.setUserId(1L);
+            video.setChildId(CHILD_ID);
+            video.setOriginalVideoUrl("https://example.com/video-" + i + ".mp4");
+            video.setContextTag("놀이");
+            video.setDuration(600);
+            video.setStatus(VideoStatus.COMPLETED);
+            entityManager.persist(video);
+
+            AnalysisReport report = new AnalysisReport();
+            report.setVideo(video);
+            report.setUserId(1L);
+            report.setChildId(CHILD_ID);
+            report.setRelationshipStatus("공감적 협력");
+            report.setPiScore(BigDecimal.valueOf(60));
+            report.setNdiScore(BigDecimal.valueOf(40));
+            report.setQiScore(BigDecimal.valueOf(60));
+            entityManager.persist(report);
+
+            AnalysisReportContent reportContent = new AnalysisReportContent();
+            reportContent.setReportId(report.getReportId());
+            reportContent.setContent(content);
+            entityManager.persist(reportContent);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void summaryProjection_neverLoadsContent() {
+        // 기존 방식: 리포트 엔티티와 상세 내용 컬럼을 한 번의 조인 쿼리로 함께 읽음
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT r, c.content FROM AnalysisReport r, AnalysisReportContent c " +
+                                "WHERE c.reportId = r.reportId AND r.childId = :childId ORDER BY r.createdAt DESC",
+                        Object[].class)
+                .setParameter("childId", CHILD_ID)
+                .getResultList();
+        long legacyChars = rows.stream().mapToLong(row -> ((String) row[1]).length()).sum();
+        long legacyStatements = statistics.getPrepareStatementCount();
+        long legacyEntityLoads = statistics.getEntityLoadCount();
+        entityManager.clear();
+        statistics.clear();
+
+        List<ReportSummaryView> summaries = reportRepository.findSummariesByChildId(CHILD_ID);
+        List<ReportScoreView> scores = reportRepository.findTop5ByChildIdOrderByCreatedAtDesc(CHILD_ID);
+
+        assertThat(summaries).hasSize(REPORTS);
+        assertThat(summaries.get(0).getContextTag()).isEqualTo("놀이");
+        assertThat(summaries.get(0).getDurationSeconds()).isEqualTo(600);
+        assertThat(scores).hasSize(5);
+        // 요약 조회는 엔티티를 만들지 않고 목록/그래프 각각 한 번의 쿼리로 끝남
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        // 기존 방식도 쿼리는 한 번이지만 리포트마다 엔티티와 상세 내용 전체를 읽음
+        assertThat(legacyStatements).isEqualTo(1);
+        assertThat(legacyEntityLoads).isEqualTo(REPORTS);
+        assertThat(legacyChars).isGreaterThan((long) REPORTS * CONTENT_CHARS);
+    }
+
+    @Test
+    void keysetPages_coverAllReportsInOrderWithOneQueryEach() {
+        // 생성 시각이 같은 리포트가 섞이도록 절반씩 같은 시각으로 맞춤 (동률은 reportId 로 구분)
+        Long middleId = entityManager.createQuery(
+                        "SELECT MIN(r.reportId) FROM AnalysisReport r", Long.class).getSingleResult() + REPORTS / 2;
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0);
+        entityManager.createQuery("UPDATE AnalysisReport r SET r.createdAt = :createdAt WHERE r.reportId < :middleId")
+                .setParameter("createdAt", base)
+                .setParameter("middleId", middleId)
+                .executeUpdate();
+        entityManager.createQuery("UPDATE AnalysisReport r SET r.createdAt = :createdAt WHERE r.reportId >= :middleId")
+                .setParameter("createdAt", base.plusDays(1))
+                .setParameter("middleId", middleId)
+                .executeUpdate();
+        entityManager.clear();
+
+        List<Long> expected = entityManager.createQuery(
+                        "SELECT r.reportId FROM AnalysisReport r WHERE r.childId = :childId " +
+                                "ORDER BY r.createdAt DESC, r.reportId DESC", Long.class)
+                .setParameter("childId", CHILD_ID)
+                .getResultList();
+        statistics.clear();
+
+        int pageSize = 40;
+        List<Long> paged = new ArrayList<>();
+        int pages = 0;
+        List<ReportSummaryView> page = reportRepository.findSummaryPage(CHILD_ID, PageRequest.of(0, pageSize));
+        while (!page.isEmpty()) {
+            pages++;
+            page.forEach(report -> paged.add(report.getReportId()));
+            ReportSummaryView last = page.get(page.size() - 1);
+            page = reportRepository.findSummaryPageBefore(
+                    CHILD_ID, last.getCreatedAt(), last.getReportId(), PageRequest.of(0, pageSize));
+        }
+
+        assertThat(paged).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo((REPORTS + pageSize - 1) / pageSize);
+        // 페이지마다 조인 쿼리 1회 (마지막 빈 페이지 확인 포함), 영상/내용 추가 조회 없음
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(pages + 1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.Child;
+import com.example.linkid.domain.User;
+import com.example.linkid.domain.Video;
+import com.example.linkid.domain.VideoStatus;
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.repository.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 대역 AI 서버로 분석 요청 -> 완료 콜백 흐름 확인
+ * 대역 서버는 요청 본문의 callback_url(실행 중인 애플리케이션)로 StatusResponse 를 HTTP 로 보내고(중복 전송 포함),
+ * 콜백은 Security 필터, CallbackController, 트랜잭션이 적용된 실제 빈을 거쳐 폴링과 같은 완료 경로로 저장됩니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT, properties = {
+        "jwt.secret=dGVzdC1qd3Qtc2VjcmV0LWtleS1mb3ItbGlua2lkLWludGVncmF0aW9uLXRlc3Rz",
+        "ncloud.object-storage.endpoint=http://127.0.0.1:1",
+        "ncloud.object-storage.region=kr-standard",
+        "ncloud.object-storage.access-key=test",
+        "ncloud.object-storage.secret-key=test",
+        "ncloud.object-storage.bucket-name=test",
+        "ncloud.clova-speech.secret-key=test",
+        "ncloud.clova-speech.invoke-url=http://127.0.0.1:1",
+        "ai.server.callback-token=" + AiCallbackStandInServerTest.TOKEN
+})
+class AiCallbackStandInServerTest {
+
+    static final String TOKEN = "test-callback-token";
+    private static final String EXECUTION_ID = "exec-1";
+    private static final int APP_PORT = freePort();
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+
+    // 대역 AI 서버가 받은 분석 요청 본문, 콜백 응답 (상태 코드, 반영 여부)
+    private static final List<JsonNode> analyzeRequests = new CopyOnWriteArrayList<>();
+    private static final List<String> callbackResults = new CopyOnWriteArrayList<>();
+    private static final CountDownLatch analysisFinished = new CountDownLatch(1);
+    private static final CountDownLatch callbacksDelivered = new CountDownLatch(1);
+
+    private static final HttpServer aiServer = startAiServer();
+
+    @Autowired
+    private AiAnalysisService aiAnalysisService;
+    @Autowired
+    private VideoRepository videoRepository;
+    @Autowired
+    private AnalysisReportRepository reportRepository;
+    @Autowired
+    private ChildRepository childRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("server.port", () -> APP_PORT);
+        registry.add("ai.server.url", () -> "http://127.0.0.1:" + aiServer.getAddress().getPort());
+        registry.add("ai.server.callback-url", () -> "http://127.0.0.1:" + APP_PORT + "/api/v1/callbacks/ai");
+    }
+
+    @AfterAll
+    static void stopAiServer() {
+        aiServer.stop(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportRepository.deleteAll();
+        videoRepository.deleteAll();
+    }
+
+    @Test
+    void completionCallback_savesReportOnceAndIgnoresDuplicate() throws Exception {
+        Video video = saveVideo();
+
+        String executionId = aiAnalysisService.requestAnalysis(
+                AiApiDto.AnalyzeRequest.builder().utterancesKo(List.of()).build());
+        // 파이프라인의 markAiRequested 와 같이 실행 ID 저장 후 AI 분석 중으로 전환
+        video.setAiExecutionId(executionId);
+        video.setStatus(VideoStatus.AI_ANALYZING);
+        videoRepository.save(video);
+        analysisFinished.countDown();
+
+        assertThat(callbacksDelivered.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(analyzeRequests).singleElement()
+                .satisfies(request -> assertThat(request.path("callback_url").asText())
+                        .isEqualTo("http://127.0.0.1:" + APP_PORT + "/api/v1/callbacks/ai"));
+        assertThat(callbackResults).containsExactly("401:null", "401:null", "200:true", "200:false");
+
+        Video completed = videoRepository.findById(video.getVideoId()).orElseThrow();
+        assertThat(completed.getStatus()).isEqualTo(VideoStatus.COMPLETED);
+        // complete() 의 트랜잭션 안에서 바꾼 진행률이 커밋되었는지 확인
+        assertThat(completed.getAiProgress()).isEqualTo(100);
+        assertThat(reportRepository.countByChildId(video.getChildId())).isEqualTo(1);
+    }
+
+    // 대역 AI 서버 - 분석 요청을 접수하고 callback_url 로 완료 결과를 보냄
+    private static HttpServer startAiServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/analyze", exchange -> {
+                JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+                analyzeRequests.add(request);
+                respond(exchange, ("{\"execution_id\":\"" + EXECUTION_ID + "\",\"status\":\"accepted\"}")
+                        .getBytes(StandardCharsets.UTF_8));
+                deliverCallbacksLater(request.path("callback_url").asText());
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 분석이 끝나면 토큰 없음 1회, 잘못된 토큰 1회, 정상 콜백 2회(재전송) 순서로 전송
+    private static void deliverCallbacksLater(String callbackUrl) {
+        Thread.ofPlatform().daemon().start(() -> {
+            try {
+                analysisFinished.await(10, TimeUnit.SECONDS);
+                byte[] payload = objectMapper.writeValueAsBytes(objectMapper.readTree(
+                        "{\"execution_id\":\"" + EXECUTION_ID + "\",\"status\":\"completed\"," +
+                                "\"analysis_status\":\"completed\",\"progress_percentage\":100," +
+                                "\"result\":{\"scores\":{\"pi_score\":12.0,\"ndi_score\":4.0}}}"));
+                post(callbackUrl, null, payload);
+                post(callbackUrl, "wrong-token", payload);
+                post(callbackUrl, TOKEN, payload);
+                post(callbackUrl, TOKEN, payload);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            } finally {
+                callbacksDelivered.countDown();
+            }
+        });
+    }
+
+    private static void post(String url, String token, byte[] payload) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(payload));
+        if (token != null) {
+            request.header("X-Callback-Token", token);
+        }
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        JsonNode data = objectMapper.readTree(response.body()).path("data");
+        callbackResults.add(response.statusCode() + ":" + (data.isMissingNode() || data.isNull() ? "null" : data.asText()));
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Video saveVideo() {
+        User user = userRepository.save(User.builder()
+                .loginId("callback-" + System.nanoTime()).name("부모").password("password").build());
+        Child child = new Child();
+        child.setUser(user);
+        child.setName("아이");
+        childRepository.save(child);
+
+        Video video = new Video();
+        video.setUserId(user.getUserId());
+        video.setChildId(child.getChildId());
+        video.setOriginalVideoUrl("https://example.com/video.mp4");
+        video.setStatus(VideoStatus.STT_COMPLETED);
+        video.setStatusUpdatedAt(LocalDateTime.now());
+        return videoRepository.save(video);
+    }
+}
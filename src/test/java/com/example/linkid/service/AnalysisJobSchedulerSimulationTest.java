@@ -0,0 +1,189 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.AnalysisJob;
+import com.example.linkid.domain.AnalysisJobStatus;
+import com.example.linkid.repository.AnalysisJobRepository;
+import com.example.linkid.scheduler.AnalysisJobWorker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 혼합 워크로드 시뮬레이션 - 워커 4개, 처리 시간 = 영상 길이 x 0.5 + 30초
+ * 사용자 1명이 10분 영상 10개를 먼저 올리고, 다른 사용자들의 1분 영상이 뒤따라 들어오는 상황
+ * 실제 점유 경로(AnalysisJobWorker.pollJobs -> AnalysisJobService.claimBatch -> 후보 조회 SQL)를 가상 시계로 실행하므로
+ * 노는 스레드 수만큼만 점유하는 제한과 사용자별 후보 제한이 모두 반영됩니다.
+ */
+@DataJpaTest
+class AnalysisJobSchedulerSimulationTest {
+
+    private static final int WORKERS = 4;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private AnalysisJobRepository jobRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void fairShare_improvesTimeToResultOverFifo() {
+        Result fifo = simulate(new FifoAnalysisJobScheduler());
+        Result fairShare = simulate(new FairShareAnalysisJobScheduler(1.0, 1.0, 300, 2));
+
+        assertThat(fairShare.p50()).isLessThan(fifo.p50());
+        assertThat(fairShare.shortP95()).isLessThan(fifo.shortP95());
+        // aging 으로 긴 영상도 밀려나지 않음 (최대 대기가 크게 늘지 않음)
+        assertThat(fairShare.max()).isLessThan(fifo.max() * 3 / 2);
+    }
+
+    private Result simulate(AnalysisJobScheduler scheduler) {
+        // 이전 시뮬레이션의 작업 삭제를 먼저 반영 (videoId 가 겹침)
+        jobRepository.deleteAll();
+        entityManager.flush();
+        entityManager.clear();
+        List<AnalysisJob> arrivals = jobRepository.saveAll(workload());
+        entityManager.flush();
+
+        SimulatedClock clock = new SimulatedClock();
+        AnalysisJobService jobService = new AnalysisJobService(jobRepository, scheduler);
+        ReflectionTestUtils.setField(jobService, "clock", clock);
+        ReflectionTestUtils.setField(jobService, "schedulerWindow", 5);
+        // 시뮬레이션에는 heartbeat 가 없으므로 처리 중 lease 가 만료되지 않도록 충분히 길게
+        ReflectionTestUtils.setField(jobService, "leaseSeconds", 86_400L);
+
+        PriorityQueue<long[]> running = new PriorityQueue<>(Comparator.comparingLong(r -> r[0])); // [종료 시각, videoId]
+        AsyncAnalysisService asyncAnalysisService = mock(AsyncAnalysisService.class);
+        doAnswer(inv -> {
+            AnalysisJob job = arrivals.get(((Long) inv.getArgument(0)).intValue());
+            running.add(new long[]{clock.seconds() + job.getExpectedDurationSeconds() / 2 + 30, job.getVideoId()});
+            return null;
+        }).when(asyncAnalysisService).processVideoAsync(anyLong());
+
+        ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+        when(executor.getCorePoolSize()).thenReturn(WORKERS);
+        when(executor.getActiveCount()).thenAnswer(inv -> running.size());
+
+        AnalysisJobWorker worker = new AnalysisJobWorker(jobService, asyncAnalysisService,
+                mock(ReactiveAnalysisPipeline.class), executor);
+        ReflectionTestUtils.setField(worker, "batchSize", 10);
+        ReflectionTestUtils.setField(worker, "pipelineMode", "blocking");
+
+        List<Long> all = new ArrayList<>();
+        List<Long> shortJobs = new ArrayList<>();
+        while (all.size() < arrivals.size()) {
+            entityManager.flush();
+            worker.pollJobs();
+
+            long now = clock.seconds();
+            long nextArrival = arrivals.stream()
+                    .mapToLong(this::arrivalSecond)
+                    .filter(second -> second > now)
+                    .min().orElse(Long.MAX_VALUE);
+            long nextFinish = running.isEmpty() ? Long.MAX_VALUE : running.peek()[0];
+            if (nextArrival < nextFinish) {
+                clock.set(nextArrival);
+                continue;
+            }
+
+            long[] finished = running.poll();
+            clock.set(finished[0]);
+            AnalysisJob job = arrivals.get((int) finished[1]);
+            jobService.release(job.getVideoId(), AnalysisJobStatus.COMPLETED);
+
+            long timeToResult = finished[0] - arrivalSecond(job);
+            all.add(timeToResult);
+            if (job.getExpectedDurationSeconds() <= 60) {
+                shortJobs.add(timeToResult);
+            }
+        }
+        return new Result(percentile(all, 50), percentile(shortJobs, 95), Collections.max(all));
+    }
+
+    private List<AnalysisJob> workload() {
+        List<AnalysisJob> jobs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            jobs.add(job(1L, 600, i));
+        }
+        for (int i = 0; i < 5; i++) {
+            jobs.add(job(2L, 300, 2 + i * 3));
+        }
+        for (int i = 0; i < 25; i++) {
+            jobs.add(job(10L + i, 60, 5 + i * 4));
+        }
+        jobs.sort(Comparator.comparing(AnalysisJob::getAvailableAt));
+        // 목록 index 와 videoId 를 맞춤 (저장 순서 = 도착 순서 = 등록 순서)
+        for (int i = 0; i < jobs.size(); i++) {
+            jobs.get(i).setVideoId((long) i);
+        }
+        return jobs;
+    }
+
+    private AnalysisJob job(Long userId, int durationSeconds, long arrivalSecond) {
+        AnalysisJob job = new AnalysisJob();
+        job.setUserId(userId);
+        job.setExpectedDurationSeconds(durationSeconds);
+        job.setStatus(AnalysisJobStatus.PENDING);
+        job.setAvailableAt(BASE.plusSeconds(arrivalSecond));
+        return job;
+    }
+
+    private long arrivalSecond(AnalysisJob job) {
+        return java.time.Duration.between(BASE, job.getAvailableAt()).toSeconds();
+    }
+
+    private long percentile(List<Long> values, int p) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(p / 100.0 * sorted.size()) - 1);
+    }
+
+    // BASE 기준 초 단위로 움직이는 가상 시계
+    private static final class SimulatedClock extends Clock {
+
+        private long seconds;
+
+        long seconds() {
+            return seconds;
+        }
+
+        void set(long seconds) {
+            this.seconds = seconds;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return BASE.plusSeconds(seconds).toInstant(ZoneOffset.UTC);
+        }
+    }
+
+    private record Result(long p50, long shortP95, long max) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.Video;
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.dto.SttTranscript;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 블로킹 / 리액티브 파이프라인의 외부 호출 동시성 비교
+ * STT 대역은 관문(gate)이 열릴 때까지 응답하지 않으며, 동시에 대기 중인 STT 호출 수의 최댓값을 기록합니다.
+ * 블로킹 경로는 analysis.executor.max-size 기본값(8) 크기의 스레드 풀에서 실행되므로 스레드 수를 넘지 못하고,
+ * 리액티브 경로는 스레드를 잡지 않으므로 ANALYSES 건이 모두 동시에 대기합니다.
+ * 소요 시간 비교는 src/jmh 의 AnalysisPipelineModeBenchmark 에서 측정합니다.
+ */
+class AnalysisPipelineModeComparisonTest {
+
+    private static final int ANALYSES = 64;
+    private static final int BLOCKING_THREADS = 8;
+
+    private final SttTranscript transcript = new SttTranscript("COMPLETED", null, List.of());
+
+    // 대기 중인 STT 호출 수와 그 최댓값, 응답을 막아 두는 관문
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger peakInflight = new AtomicInteger();
+    private final CompletableFuture<SttTranscript> gate = new CompletableFuture<>();
+    private final CountDownLatch threadsWaiting = new CountDownLatch(BLOCKING_THREADS);
+    private final CountDownLatch allWaiting = new CountDownLatch(ANALYSES);
+
+    private AnalysisPipelineSupport pipeline;
+    private AsyncAnalysisService blocking;
+    private ReactiveAnalysisPipeline reactive;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = mock(AnalysisPipelineSupport.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        when(pipeline.stageTimer(anyString(), anyString())).thenAnswer(inv -> Timer.builder("analysis.pipeline.stage")
+                .tag("stage", inv.getArgument(0))
+                .tag("mode", inv.getArgument(1))
+                .register(registry));
+        when(pipeline.loadVideo(anyLong())).thenAnswer(inv -> video(inv.getArgument(0)));
+        when(pipeline.markSttProcessing(any())).thenReturn(true);
+        when(pipeline.markSttCompleted(any(), any())).thenReturn(true);
+        when(pipeline.markAiRequested(any(), anyString())).thenReturn(true);
+        when(pipeline.buildAnalyzeRequest(any(), any()))
+                .thenAnswer(inv -> AiApiDto.AnalyzeRequest.builder().utterancesKo(List.of()).build());
+
+        ObjectStorageService objectStorageService = mock(ObjectStorageService.class);
+        when(objectStorageService.generatePresignedDownloadUrl(any())).thenReturn("https://example.com/video.mp4");
+
+        ClovaSpeechService clovaSpeechService = mock(ClovaSpeechService.class);
+        when(clovaSpeechService.recognizeSpeechFromUrl(anyString())).thenAnswer(inv -> {
+            enter();
+            try {
+                return gate.get(10, TimeUnit.SECONDS);
+            } finally {
+                inflight.decrementAndGet();
+            }
+        });
+        when(clovaSpeechService.recognizeSpeechMono(anyString())).thenAnswer(inv -> Mono.fromFuture(gate)
+                .doOnSubscribe(subscription -> enter())
+                .doFinally(signal -> inflight.decrementAndGet()));
+
+        AiAnalysisService aiAnalysisService = mock(AiAnalysisService.class);
+        when(aiAnalysisService.requestAnalysis(any())).thenReturn("exec");
+        when(aiAnalysisService.requestAnalysisMono(any())).thenReturn(Mono.just("exec"));
+
+        AnalysisJobService analysisJobService = mock(AnalysisJobService.class);
+        blocking = new AsyncAnalysisService(clovaSpeechService, objectStorageService, aiAnalysisService,
+                analysisJobService, pipeline);
+        reactive = new ReactiveAnalysisPipeline(clovaSpeechService, objectStorageService, aiAnalysisService,
+                analysisJobService, pipeline);
+        ReflectionTestUtils.setField(reactive, "sttTimeoutMinutes", 30L);
+        ReflectionTestUtils.setField(reactive, "aiRequestTimeoutSeconds", 120L);
+        ReflectionTestUtils.setField(reactive, "maxInflight", 200);
+    }
+
+    @Test
+    void blockingPipeline_waitsOnAtMostOneSttCallPerThread() throws Exception {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) Executors.newFixedThreadPool(BLOCKING_THREADS);
+        for (long id = 1; id <= ANALYSES; id++) {
+            long videoId = id;
+            pool.execute(() -> blocking.processVideoAsync(videoId));
+        }
+
+        // 관문이 닫힌 상태에서 스레드마다 STT 호출 1건씩 대기하고 나머지는 큐에 남음
+        assertThat(threadsWaiting.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(inflight.get()).isEqualTo(BLOCKING_THREADS);
+        assertThat(pool.getQueue()).hasSize(ANALYSES - BLOCKING_THREADS);
+
+        gate.complete(transcript);
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(peakInflight.get()).isLessThanOrEqualTo(BLOCKING_THREADS);
+        verify(pipeline, times(ANALYSES)).markAiRequested(any(), anyString());
+        verify(pipeline, never()).handleFailure(anyLong(), any(), any());
+    }
+
+    @Test
+    void reactivePipeline_waitsOnAllSttCallsAtOnce() throws Exception {
+        Mono<Void> all = Flux.range(1, ANALYSES)
+                .flatMap(id -> reactive.process(id.longValue()))
+                .then()
+                .cache();
+        all.subscribe();
+
+        // 관문이 닫힌 상태에서 모든 분석의 STT 호출이 대기에 들어감
+        assertThat(allWaiting.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(peakInflight.get()).isEqualTo(ANALYSES);
+
+        gate.complete(transcript);
+        all.block(Duration.ofSeconds(10));
+        verify(pipeline, times(ANALYSES)).markAiRequested(any(), anyString());
+        verify(pipeline, never()).handleFailure(anyLong(), any(), any());
+    }
+
+    private void enter() {
+        peakInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+        threadsWaiting.countDown();
+        allWaiting.countDown();
+    }
+
+    private static Video video(Long videoId) {
+        Video video = new Video();
+        video.setVideoId(videoId);
+        video.setChildId(1L);
+        video.setBucketKey("user-1/" + videoId + ".mp4");
+        return video;
+    }
+}
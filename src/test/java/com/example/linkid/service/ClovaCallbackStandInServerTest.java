@@ -0,0 +1,208 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.Video;
+import com.example.linkid.domain.VideoStatus;
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.repository.VideoRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 대역 Clova 서버로 비동기 STT 요청 -> 서명된 콜백 흐름 확인
+ * 분석 파이프라인이 completion=async 로 접수하면 대역 서버는 요청 본문의 callback URL 로 인식 결과를 보내고,
+ * 서명 없는 콜백과 잘못된 서명의 콜백은 거부, 올바른 서명의 콜백만 STT_PROCESSING -> STT_COMPLETED 로 반영됩니다.
+ * 설정된 콜백 URL 에는 쿼리 문자열이 있으며, 서명 파라미터가 그 뒤에 올바르게 붙는지도 확인합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT, properties = {
+        "jwt.secret=dGVzdC1qd3Qtc2VjcmV0LWtleS1mb3ItbGlua2lkLWludGVncmF0aW9uLXRlc3Rz",
+        "ncloud.object-storage.endpoint=http://127.0.0.1:1",
+        "ncloud.object-storage.region=kr-standard",
+        "ncloud.object-storage.access-key=test",
+        "ncloud.object-storage.secret-key=test",
+        "ncloud.object-storage.bucket-name=test",
+        "ncloud.clova-speech.secret-key=" + ClovaCallbackStandInServerTest.API_KEY,
+        "ncloud.clova-speech.completion=async",
+        "ncloud.clova-speech.callback-secret=test-callback-secret",
+        "ai.server.url=http://127.0.0.1:1"
+})
+class ClovaCallbackStandInServerTest {
+
+    static final String API_KEY = "test-clova-key";
+    private static final String STT_TOKEN = "clova-token-1";
+    private static final int APP_PORT = freePort();
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+
+    // 대역 Clova 서버가 받은 접수 요청 (API 키 헤더, 본문), 콜백 응답 (상태 코드)
+    private static final List<String> apiKeys = new CopyOnWriteArrayList<>();
+    private static final List<JsonNode> recognizeRequests = new CopyOnWriteArrayList<>();
+    private static final List<Integer> callbackStatuses = new CopyOnWriteArrayList<>();
+    private static final CountDownLatch callbacksDelivered = new CountDownLatch(1);
+
+    private static final HttpServer clovaServer = startClovaServer();
+
+    @Autowired
+    private AsyncAnalysisService asyncAnalysisService;
+    @Autowired
+    private VideoTranscriptService videoTranscriptService;
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("server.port", () -> APP_PORT);
+        registry.add("ncloud.clova-speech.invoke-url", () -> "http://127.0.0.1:" + clovaServer.getAddress().getPort());
+        registry.add("ncloud.clova-speech.callback-url",
+                () -> "http://127.0.0.1:" + APP_PORT + "/api/v1/callbacks/clova?source=clova");
+    }
+
+    @AfterAll
+    static void stopClovaServer() {
+        clovaServer.stop(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        videoRepository.deleteAll();
+    }
+
+    @Test
+    void asyncRecognition_appliesOnlySignedCallback() throws Exception {
+        Video video = saveQueuedVideo();
+
+        // 작업 워커와 같은 진입점 - 분석 Executor 에서 STT 접수까지 실행
+        asyncAnalysisService.processVideoAsync(video.getVideoId());
+
+        assertThat(callbacksDelivered.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(apiKeys).containsExactly(API_KEY);
+        assertThat(recognizeRequests).singleElement().satisfies(request -> {
+            assertThat(request.path("completion").asText()).isEqualTo("async");
+            assertThat(request.path("url").asText()).contains("user-1/clova.mp4");
+            assertThat(UriComponentsBuilder.fromUriString(request.path("callback").asText()).build().getQueryParams())
+                    .containsEntry("source", List.of("clova"))
+                    .containsEntry("videoId", List.of(String.valueOf(video.getVideoId())))
+                    .containsKey("signature");
+        });
+
+        // 서명 없음, 잘못된 서명은 거부 / 올바른 서명은 반영, 같은 콜백 재전송은 무시(200, 미반영)
+        assertThat(callbackStatuses).hasSize(4);
+        assertThat(callbackStatuses.get(0)).isBetween(400, 499);
+        assertThat(callbackStatuses.subList(1, 4)).containsExactly(401, 200, 200);
+
+        Video completed = videoRepository.findById(video.getVideoId()).orElseThrow();
+        assertThat(completed.getStatus()).isEqualTo(VideoStatus.STT_COMPLETED);
+        assertThat(completed.getSttToken()).isEqualTo(STT_TOKEN);
+        assertThat(videoTranscriptService.find(video.getVideoId())).hasValueSatisfying(transcript ->
+                assertThat(transcript.getUtterances()).extracting(AiApiDto.Utterance::getText)
+                        .containsExactly("블록 쌓아볼까?", "응!"));
+    }
+
+    // 대역 Clova 서버 - 비동기 인식을 접수하고 callback URL 로 결과를 보냄
+    private static HttpServer startClovaServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/recognizer/url", exchange -> {
+                apiKeys.add(exchange.getRequestHeaders().getFirst("X-CLOVASPEECH-API-KEY"));
+                JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+                recognizeRequests.add(request);
+                respond(exchange, ("{\"token\":\"" + STT_TOKEN + "\",\"result\":\"STARTED\"}")
+                        .getBytes(StandardCharsets.UTF_8));
+                deliverCallbacksLater(request.path("callback").asText());
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 서명 없음 1회, 잘못된 서명 1회, 올바른 서명 2회(재전송) 순서로 전송
+    private static void deliverCallbacksLater(String callbackUrl) {
+        Thread.ofPlatform().daemon().start(() -> {
+            try {
+                byte[] payload = """
+                        {"token":"clova-token-1","result":"COMPLETED","message":"Succeeded","segments":[
+                          {"start":0,"end":1200,"text":"블록 쌓아볼까?","speaker":{"label":"1","name":"A"}},
+                          {"start":2300,"end":2800,"text":"응!","speaker":{"label":"2","name":"B"}}
+                        ]}
+                        """.getBytes(StandardCharsets.UTF_8);
+                UriComponentsBuilder callback = UriComponentsBuilder.fromUriString(callbackUrl);
+                post(callback.cloneBuilder().replaceQueryParam("signature").toUriString(), payload);
+                post(callback.cloneBuilder().replaceQueryParam("signature", "forged").toUriString(), payload);
+                post(callbackUrl, payload);
+                post(callbackUrl, payload);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            } finally {
+                callbacksDelivered.countDown();
+            }
+        });
+    }
+
+    private static void post(String url, byte[] payload) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(url))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        callbackStatuses.add(response.statusCode());
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 내용 키를 미리 넣어 두어 객체 스토리지 조회 없이 STT 요청 단계로 진행
+    private Video saveQueuedVideo() {
+        Video video = new Video();
+        video.setUserId(1L);
+        video.setChildId(1L);
+        video.setBucketKey("user-1/clova.mp4");
+        video.setContentKey("clova-test-etag:" + System.nanoTime());
+        video.setOriginalVideoUrl("https://example.com/clova.mp4");
+        video.setStatus(VideoStatus.QUEUED);
+        video.setStatusUpdatedAt(LocalDateTime.now());
+        return videoRepository.save(video);
+    }
+}
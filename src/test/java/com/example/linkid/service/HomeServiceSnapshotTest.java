@@ -0,0 +1,132 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.ChallengeStatus;
+import com.example.linkid.domain.Child;
+import com.example.linkid.dto.HomeDto;
+import com.example.linkid.event.HomeDataChangedEvent;
+import com.example.linkid.repository.AnalysisReportRepository;
+import com.example.linkid.repository.ChallengeRepository;
+import com.example.linkid.repository.ChildRepository;
+import com.example.linkid.repository.ReportScoreView;
+import com.example.linkid.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 아이 조회와 홈 응답 생성 사이에 다른 트랜잭션이 리포트를 커밋하고 캐시를 무효화하는 경우
+ * 트랜잭션 관리자 대역이 트랜잭션 시작 시점의 커밋 상태를 스냅샷으로 고정해 MySQL REPEATABLE READ 처럼 동작합니다.
+ * 응답 생성이 커밋 이후에 시작한 트랜잭션에서 읽어야 새 리포트가 캐시에 들어갑니다.
+ */
+class HomeServiceSnapshotTest {
+
+    private static final long CHILD_ID = 7L;
+    private static final ReportScore OLD = new ReportScore(LocalDateTime.of(2025, 3, 1, 10, 0), 50);
+    private static final ReportScore NEW = new ReportScore(LocalDateTime.of(2025, 3, 8, 10, 0), 80);
+
+    // 커밋된 리포트 목록과 현재 트랜잭션의 스냅샷
+    private final AtomicReference<List<ReportScoreView>> committed = new AtomicReference<>(List.of(OLD));
+    private final ThreadLocal<List<ReportScoreView>> snapshot = new ThreadLocal<>();
+
+    @Test
+    void buildAfterInterleavedCommit_cachesNewReport() {
+        ChildRepository childRepository = mock(ChildRepository.class);
+        Child child = new Child();
+        child.setChildId(CHILD_ID);
+        when(childRepository.findFirstByUser_LoginId("parent")).thenReturn(Optional.of(child));
+
+        AnalysisReportRepository reportRepository = mock(AnalysisReportRepository.class);
+        doAnswer(inv -> snapshot.get() != null ? snapshot.get() : committed.get())
+                .when(reportRepository).findTop5ByChildIdOrderByCreatedAtDesc(CHILD_ID);
+
+        ChallengeRepository challengeRepository = mock(ChallengeRepository.class);
+        when(challengeRepository.findFirstByChildChildIdAndStatusOrderByCreatedAtDesc(CHILD_ID, ChallengeStatus.PROCEEDING))
+                .thenReturn(Optional.empty());
+        GrowthTrendService growthTrendService = mock(GrowthTrendService.class);
+        when(growthTrendService.trends(CHILD_ID)).thenReturn(List.of());
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(inv -> {
+            snapshot.set(committed.get());
+            return new SimpleTransactionStatus(true);
+        });
+        doAnswer(inv -> {
+            snapshot.remove();
+            return null;
+        }).when(transactionManager).commit(any());
+
+        InMemoryHomeReadModelCache cache = new InMemoryHomeReadModelCache(100, 300, new SimpleMeterRegistry());
+        AtomicReference<HomeService> serviceRef = new AtomicReference<>();
+        // 아이 조회 직후, loader 실행 직전에 다른 트랜잭션이 새 리포트를 커밋하고 무효화
+        HomeReadModelCache interleavingCache = new HomeReadModelCache() {
+            private boolean interleaved;
+
+            @Override
+            public HomeDto.HomeResponse get(Long childId, Function<Long, HomeDto.HomeResponse> loader) {
+                if (!interleaved) {
+                    interleaved = true;
+                    committed.set(List.of(NEW, OLD));
+                    serviceRef.get().onHomeDataChanged(new HomeDataChangedEvent(childId, "report_saved"));
+                }
+                return cache.get(childId, loader);
+            }
+
+            @Override
+            public void evict(Long childId) {
+                cache.evict(childId);
+            }
+        };
+
+        HomeService homeService = new HomeService(mock(UserRepository.class), childRepository, reportRepository,
+                challengeRepository, growthTrendService, interleavingCache, new SimpleMeterRegistry(), transactionManager);
+        serviceRef.set(homeService);
+
+        HomeDto.HomeResponse first = homeService.getHomeData("parent");
+        HomeDto.HomeResponse cached = homeService.getHomeData("parent");
+
+        assertThat(first.getGrowthReport().getQiScoreHistory())
+                .extracting(HomeDto.QiScorePoint::getScore)
+                .containsExactly(50, 80);
+        assertThat(cached).isSameAs(first);
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW
+                        && definition.isReadOnly()));
+        verify(reportRepository, times(1)).findTop5ByChildIdOrderByCreatedAtDesc(CHILD_ID);
+    }
+
+    private record ReportScore(LocalDateTime createdAt, int qi) implements ReportScoreView {
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public BigDecimal getPiScore() {
+            return BigDecimal.valueOf(qi);
+        }
+
+        @Override
+        public BigDecimal getNdiScore() {
+            return BigDecimal.ZERO;
+        }
+
+        @Override
+        public BigDecimal getQiScore() {
+            return BigDecimal.valueOf(qi);
+        }
+    }
+}
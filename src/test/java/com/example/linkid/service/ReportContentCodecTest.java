@@ -0,0 +1,57 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.AnalysisReportContent;
+import com.example.linkid.domain.ReportContentFormat;
+import com.example.linkid.dto.AiApiDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportContentCodecTest {
+
+    // AI 서버 결과 모양 (구조가 정해진 필드 + JsonNode 로 그대로 보관하는 필드)
+    static final String AI_RESULT_JSON = """
+            {"summary_diagnosis":{"stage_name":"공감적 협력","positive_ratio":0.6,"negative_ratio":0.4},
+             "key_moment_capture":{"moments":[{"timestamp":"00:12","text":"블록 쌓아볼까?"}]},
+             "style_analysis":{"interaction_style":{"parent_analysis":{"categories":[
+               {"name":"반영적 듣기","ratio":0.2,"label":"RD"}]}},"summary":"아이의 말을 잘 따라갑니다."},
+             "growth_report":{"current_metrics":[{"label":"반영적 듣기","value":0.2,"value_type":"ratio"}]},
+             "scores":{"pi_score":12.0,"ndi_score":4.0}}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReportContentCodec codec = new ReportContentCodec(objectMapper);
+
+    @Test
+    void decode_readsJsonAndSmileRowsToSameResult() throws Exception {
+        AiApiDto.AiResult expected = objectMapper.readValue(AI_RESULT_JSON, AiApiDto.AiResult.class);
+
+        AnalysisReportContent jsonRow = new AnalysisReportContent();
+        jsonRow.setFormat(ReportContentFormat.JSON);
+        jsonRow.setContent(AI_RESULT_JSON);
+
+        // 코덱의 쓰기 경로와 무관하게 같은 문서를 Smile 로 인코딩한 행
+        AnalysisReportContent smileRow = new AnalysisReportContent();
+        smileRow.setFormat(ReportContentFormat.SMILE);
+        smileRow.setPayload(new ObjectMapper(new SmileFactory()).writeValueAsBytes(objectMapper.readTree(AI_RESULT_JSON)));
+
+        AiApiDto.AiResult fromJson = codec.decode(jsonRow);
+        AiApiDto.AiResult fromSmile = codec.decode(smileRow);
+
+        assertThat(fromJson).isEqualTo(expected);
+        assertThat(fromSmile).isEqualTo(expected);
+        assertThat(fromSmile.getSummary_diagnosis().getStage_name()).isEqualTo("공감적 협력");
+        assertThat(fromSmile.getKey_moment_capture().path("moments").get(0).path("text").asText()).isEqualTo("블록 쌓아볼까?");
+    }
+
+    @Test
+    void decode_treatsRowWithoutFormatAsJson() throws Exception {
+        AnalysisReportContent legacyRow = new AnalysisReportContent();
+        legacyRow.setContent(AI_RESULT_JSON);
+
+        assertThat(codec.decode(legacyRow))
+                .isEqualTo(objectMapper.readValue(AI_RESULT_JSON, AiApiDto.AiResult.class));
+    }
+}
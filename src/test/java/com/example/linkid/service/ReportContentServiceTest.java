@@ -0,0 +1,79 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.AnalysisReportContent;
+import com.example.linkid.domain.ReportContentFormat;
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.repository.AnalysisReportContentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 형식 변환 배치(ReportContentUpgrader)가 호출하는 upgrade 확인
+ * 저장소 대역이 돌려준 엔티티를 그대로 고치므로(JPA 변경 감지와 같은 경로) 변환 후 행 상태를 직접 확인합니다.
+ */
+class ReportContentServiceTest {
+
+    private static final long REPORT_ID = 11L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReportContentCodec codec = new ReportContentCodec(objectMapper);
+    private final AnalysisReportContentRepository contentRepository = mock(AnalysisReportContentRepository.class);
+    private final ReportContentService contentService = new ReportContentService(contentRepository, codec,
+            new ReportContentCache(1_048_576, new SimpleMeterRegistry()), new SimpleMeterRegistry(), null);
+
+    @Test
+    void upgrade_convertsJsonToSmileAndBack() throws Exception {
+        AiApiDto.AiResult expected = objectMapper.readValue(ReportContentCodecTest.AI_RESULT_JSON, AiApiDto.AiResult.class);
+        AnalysisReportContent row = row(ReportContentFormat.JSON, ReportContentCodecTest.AI_RESULT_JSON);
+
+        writeFormat(ReportContentFormat.SMILE);
+        assertThat(contentService.upgrade(REPORT_ID)).isTrue();
+        assertThat(row.getFormat()).isEqualTo(ReportContentFormat.SMILE);
+        assertThat(row.getContent()).isNull();
+        assertThat(row.getPayload()).isNotEmpty();
+        assertThat(codec.decode(row)).isEqualTo(expected);
+        // 이미 설정 형식인 행은 다시 쓰지 않음
+        assertThat(contentService.upgrade(REPORT_ID)).isFalse();
+
+        writeFormat(ReportContentFormat.JSON);
+        assertThat(contentService.upgrade(REPORT_ID)).isTrue();
+        assertThat(row.getFormat()).isEqualTo(ReportContentFormat.JSON);
+        assertThat(row.getPayload()).isNull();
+        assertThat(objectMapper.readValue(row.getContent(), AiApiDto.AiResult.class)).isEqualTo(expected);
+        assertThat(contentService.find(REPORT_ID)).contains(expected);
+    }
+
+    @Test
+    void upgrade_leavesUnreadableRowUntouched() {
+        String broken = "{\"summary_diagnosis\":{\"stage_name\":";
+        AnalysisReportContent row = row(ReportContentFormat.JSON, broken);
+
+        writeFormat(ReportContentFormat.SMILE);
+        assertThat(contentService.upgrade(REPORT_ID)).isFalse();
+
+        assertThat(row.getFormat()).isEqualTo(ReportContentFormat.JSON);
+        assertThat(row.getContent()).isEqualTo(broken);
+        assertThat(row.getPayload()).isNull();
+        verify(contentRepository, never()).save(any());
+    }
+
+    private AnalysisReportContent row(ReportContentFormat format, String content) {
+        AnalysisReportContent row = new AnalysisReportContent();
+        row.setReportId(REPORT_ID);
+        row.setFormat(format);
+        row.setContent(content);
+        when(contentRepository.findById(REPORT_ID)).thenReturn(Optional.of(row));
+        return row;
+    }
+
+    private void writeFormat(ReportContentFormat format) {
+        ReflectionTestUtils.setField(contentService, "writeFormat", format);
+    }
+}
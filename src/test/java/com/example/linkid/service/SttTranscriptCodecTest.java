@@ -0,0 +1,141 @@
+package com.example.linkid.service;
+
+import com.example.linkid.dto.AiApiDto;
+import com.example.linkid.dto.SttTranscript;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+class SttTranscriptCodecTest {
+
+    // 합성 Clova 응답의 발화 어휘
+    private static final String[] WORDS = {"우리", "블록", "쌓아볼까", "이거", "뭐야", "빨간색", "자동차", "여기", "봐봐",
+            "엄마", "아빠", "같이", "해볼래", "응", "아니", "더", "높이", "무너졌다", "다시", "잘했어", "동그라미", "세모",
+            "네모", "어디", "있을까", "찾아보자", "기차", "간다", "멈춰", "초록색", "공룡", "무서워", "괜찮아", "천천히"};
+
+    private final SttTranscriptCodec codec = new SttTranscriptCodec(new ObjectMapper());
+
+    @Test
+    void parse_readsOnlyUsedFieldsFromClovaResponse() throws Exception {
+        String clova = """
+                {"result":"COMPLETED","message":"Succeeded","segments":[
+                  {"start":0,"end":1200,"text":"안녕","confidence":0.9,"words":[[0,500,"안녕"]],
+                   "speaker":{"label":"1","name":"A","edited":false}},
+                  {"start":1500,"text":"반가워","speaker":{"label":"2","name":"B"}}
+                ],"text":"안녕 반가워"}
+                """;
+
+        SttTranscript transcript = codec.parse(clova);
+
+        assertThat(transcript.isCompleted()).isTrue();
+        assertThat(transcript.getUtterances()).extracting(AiApiDto.Utterance::getSpeaker, AiApiDto.Utterance::getText,
+                        AiApiDto.Utterance::getTimestamp)
+                .containsExactly(
+                        tuple("A", "안녕", 0),
+                        tuple("B", "반가워", 1500));
+    }
+
+    @Test
+    void incrementalParser_readsResponseSplitAtArbitraryBytes() throws Exception {
+        byte[] clova = """
+                {"result":"COMPLETED","segments":[
+                  {"start":0,"text":"블록 쌓아볼까?","words":[[0,500,"블록"]],"speaker":{"label":"1","name":"A"}},
+                  {"start":2300,"text":"응!","speaker":{"label":"2","name":"B"}}
+                ],"text":"블록 쌓아볼까? 응!"}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        // 한 바이트씩 넣어 토큰과 UTF-8 문자가 조각 경계에서 잘리는 경우를 모두 거침
+        SttTranscript transcript;
+        try (SttTranscriptCodec.IncrementalParser parser = codec.newIncrementalParser()) {
+            for (int i = 0; i < clova.length; i++) {
+                parser.feed(clova, i, 1);
+            }
+            transcript = parser.finish();
+        }
+
+        assertThat(transcript.getUtterances()).extracting(AiApiDto.Utterance::getSpeaker, AiApiDto.Utterance::getText,
+                        AiApiDto.Utterance::getTimestamp)
+                .containsExactly(
+                        tuple("A", "블록 쌓아볼까?", 0),
+                        tuple("B", "응!", 2300));
+    }
+
+    @Test
+    void incrementalParser_rejectsTruncatedResponse() throws Exception {
+        byte[] truncated = "{\"result\":\"COMPLETED\",\"segments\":[{\"text\":\"안".getBytes(StandardCharsets.UTF_8);
+
+        try (SttTranscriptCodec.IncrementalParser parser = codec.newIncrementalParser()) {
+            parser.feed(truncated, 0, truncated.length);
+            assertThatThrownBy(parser::finish).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    void encode_roundTripsUtterances() {
+        SttTranscript transcript = new SttTranscript("COMPLETED", null, List.of(
+                new AiApiDto.Utterance("A", "블록 쌓아볼까?", 0),
+                new AiApiDto.Utterance("B", "응!", 2300),
+                new AiApiDto.Utterance("A", "", 1800),
+                new AiApiDto.Utterance(null, "화자 없음", 4000)));
+
+        SttTranscript decoded = codec.decode(codec.encode(transcript));
+
+        assertThat(decoded.getResult()).isEqualTo("COMPLETED");
+        assertThat(decoded.getUtterances()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(
+                        new AiApiDto.Utterance("A", "블록 쌓아볼까?", 0),
+                        new AiApiDto.Utterance("B", "응!", 2300),
+                        new AiApiDto.Utterance("A", "", 1800),
+                        new AiApiDto.Utterance("", "화자 없음", 4000));
+    }
+
+    // 행 크기 비교 - video.stt_result(Clova 원본 JSON) vs video_transcript.payload
+    @Test
+    void encode_shrinksStoredRowComparedToClovaJson() throws Exception {
+        for (int segments : new int[]{50, 200, 600}) {
+            String json = clovaResponse(segments);
+            int jsonBytes = json.getBytes(StandardCharsets.UTF_8).length;
+            byte[] payload = codec.encode(codec.parse(json));
+
+            assertThat(codec.decode(payload).getUtterances()).hasSize(segments);
+            assertThat(payload.length).isLessThan(jsonBytes / 10);
+        }
+    }
+
+    // 분석 요청과 같은 옵션(화자 분리 2명, wordAlignment 끔)의 Clova 동기 응답 모양
+    private static String clovaResponse(int segments) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("{\"result\":\"COMPLETED\",\"message\":\"Succeeded\",\"token\":\"d3f1c2b4\"," +
+                "\"params\":{\"language\":\"ko-KR\",\"completion\":\"sync\"},\"segments\":[");
+        StringBuilder fullText = new StringBuilder();
+        int start = 0;
+        for (int i = 0; i < segments; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int w = 2 + random.nextInt(6); w > 0; w--) {
+                text.append(WORDS[random.nextInt(WORDS.length)]).append(w > 1 ? " " : "");
+            }
+            int length = 800 + random.nextInt(2500);
+            String label = random.nextBoolean() ? "1" : "2";
+            json.append(i > 0 ? "," : "")
+                    .append("{\"start\":").append(start).append(",\"end\":").append(start + length)
+                    .append(",\"text\":\"").append(text).append("\",\"confidence\":0.").append(8000 + random.nextInt(1999))
+                    .append(",\"diarization\":{\"label\":\"").append(label).append("\"}")
+                    .append(",\"speaker\":{\"label\":\"").append(label).append("\",\"name\":\"")
+                    .append("1".equals(label) ? "A" : "B").append("\",\"edited\":false}")
+                    .append(",\"words\":[],\"textEdited\":\"").append(text).append("\"}");
+            fullText.append(text).append(' ');
+            start += length + random.nextInt(1500);
+        }
+        return json.append("],\"text\":\"").append(fullText.toString().trim())
+                .append("\",\"speakers\":[{\"label\":\"1\",\"name\":\"A\"},{\"label\":\"2\",\"name\":\"B\"}]}")
+                .toString();
+    }
+}
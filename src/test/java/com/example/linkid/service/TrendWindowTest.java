@@ -0,0 +1,91 @@
+package com.example.linkid.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 값을 하나씩 반영한 집계가 최근 N개 값으로 처음부터 계산한 결과와 같은지 확인
+ * (저장 후 복원을 거치는 경우와 오래 누적된 경우 포함)
+ */
+class TrendWindowTest {
+
+    private static final double TOLERANCE = 1e-6;
+
+    @Test
+    void incrementalAggregates_matchFullRecompute() {
+        Random random = new Random(42);
+        for (int capacity : new int[]{1, 2, 3, 5, 10, 30}) {
+            TrendWindow window = new TrendWindow(capacity);
+            List<Double> history = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                double value = Math.round(random.nextDouble() * 1000) / 10.0;
+                window.push(value);
+                history.add(value);
+                assertMatches(window, history, capacity);
+            }
+        }
+    }
+
+    @Test
+    void restoredWindow_continuesLikeUninterrupted() {
+        Random random = new Random(7);
+        int capacity = 10;
+        TrendWindow continuous = new TrendWindow(capacity);
+        TrendWindow restored = new TrendWindow(capacity);
+        List<Double> history = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            double value = random.nextDouble();
+            continuous.push(value);
+            // 리포트마다 저장된 값에서 복원해 반영하는 실제 경로
+            restored = TrendWindow.restore(capacity, restored.encode());
+            restored.push(value);
+            history.add(value);
+
+            assertMatches(restored, history, capacity);
+            assertThat(restored.slope()).isCloseTo(continuous.slope(), within(TOLERANCE));
+        }
+    }
+
+    @Test
+    void slope_followsLinearTrend() {
+        TrendWindow window = new TrendWindow(5);
+        for (int i = 0; i < 20; i++) {
+            window.push(50 + i * 2.5);
+        }
+        assertThat(window.slope()).isCloseTo(2.5, within(TOLERANCE));
+        assertThat(window.average()).isCloseTo(50 + 17 * 2.5, within(TOLERANCE));
+    }
+
+    private void assertMatches(TrendWindow window, List<Double> history, int capacity) {
+        List<Double> recent = history.subList(Math.max(0, history.size() - capacity), history.size());
+        assertThat(window.size()).isEqualTo(recent.size());
+        assertThat(window.latest()).isEqualTo(recent.get(recent.size() - 1));
+        assertThat(window.average()).isCloseTo(recent.stream().mapToDouble(Double::doubleValue).average().orElseThrow(), within(TOLERANCE));
+        assertThat(window.min()).isEqualTo(recent.stream().mapToDouble(Double::doubleValue).min().orElseThrow());
+        assertThat(window.max()).isEqualTo(recent.stream().mapToDouble(Double::doubleValue).max().orElseThrow());
+        assertThat(window.slope()).isCloseTo(leastSquaresSlope(recent), within(TOLERANCE));
+    }
+
+    // 정의대로 계산한 최소제곱 기울기 (x = 0..n-1)
+    private double leastSquaresSlope(List<Double> values) {
+        int n = values.size();
+        if (n < 2) {
+            return 0;
+        }
+        double meanX = (n - 1) / 2.0;
+        double meanY = values.stream().mapToDouble(Double::doubleValue).average().orElseThrow();
+        double numerator = 0;
+        double denominator = 0;
+        for (int i = 0; i < n; i++) {
+            numerator += (i - meanX) * (values.get(i) - meanY);
+            denominator += (i - meanX) * (i - meanX);
+        }
+        return numerator / denominator;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.linkid.service;
+
+import com.example.linkid.domain.Video;
+import com.example.linkid.domain.VideoStatus;
+import com.example.linkid.repository.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 각 스레드가 실제로 커밋하며 경쟁하도록 테스트 트랜잭션을 사용하지 않음
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VideoAnalysisServiceStartTest {
+
+    private static final int PARALLEL_STARTS = 16;
+
+    @Autowired
+    private VideoRepository videoRepository;
+    @Autowired
+    private AnalysisReportRepository reportRepository;
+    @Autowired
+    private ChallengeRepository challengeRepository;
+    @Autowired
+    private ChildRepository childRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private AnalysisJobService analysisJobService;
+    private VideoAnalysisService videoAnalysisService;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        analysisJobService = mock(AnalysisJobService.class);
+        videoAnalysisService = new VideoAnalysisService(videoRepository, reportRepository, challengeRepository,
+                childRepository, userRepository, mock(ObjectStorageService.class),
+                analysisJobService, mock(AnalysisEventService.class), mock(ReportContentService.class));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        videoRepository.deleteAll();
+    }
+
+    @Test
+    void parallelStarts_admitOnlyOnePipeline() throws Exception {
+        Long videoId = saveVideo(VideoStatus.UPLOADING);
+
+        List<Map<String, Object>> results = startConcurrently(videoId);
+
+        assertThat(results).filteredOn(result -> Boolean.TRUE.equals(result.get("started"))).hasSize(1);
+        assertThat(results).allSatisfy(result -> assertThat(result.get("status")).isEqualTo("QUEUED"));
+        verify(analysisJobService, times(1)).enqueue(any(Video.class));
+        assertThat(videoRepository.findById(videoId).orElseThrow().getStatus()).isEqualTo(VideoStatus.QUEUED);
+    }
+
+    @Test
+    void start_returnsExistingStatusWhileInProgress() {
+        Long videoId = saveVideo(VideoStatus.STT_PROCESSING);
+
+        Map<String, Object> result = transactionTemplate.execute(status -> videoAnalysisService.startAnalysis(videoId));
+
+        assertThat(result).containsEntry("started", false).containsEntry("status", "STT_PROCESSING");
+        verify(analysisJobService, never()).enqueue(any(Video.class));
+    }
+
+    @Test
+    void start_restartsFailedVideoOnce() throws Exception {
+        Long videoId = saveVideo(VideoStatus.FAILED);
+
+        List<Map<String, Object>> results = startConcurrently(videoId);
+
+        assertThat(results).filteredOn(result -> Boolean.TRUE.equals(result.get("started"))).hasSize(1);
+        verify(analysisJobService, times(1)).enqueue(any(Video.class));
+        assertThat(videoRepository.findById(videoId).orElseThrow().getErrorMessage()).isNull();
+    }
+
+    private List<Map<String, Object>> startConcurrently(Long videoId) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(PARALLEL_STARTS);
+        CountDownLatch ready = new CountDownLatch(PARALLEL_STARTS);
+        CountDownLatch go = new CountDownLatch(1);
+        try {
+            List<Future<Map<String, Object>>> futures = new ArrayList<>();
+            for (int i = 0; i < PARALLEL_STARTS; i++) {
+                futures.add(pool.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    return transactionTemplate.execute(status -> videoAnalysisService.startAnalysis(videoId));
+                }));
+            }
+            ready.await();
+            go.countDown();
+
+            List<Map<String, Object>> results = new ArrayList<>();
+            for (Future<Map<String, Object>> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Long saveVideo(VideoStatus status) {
+        Video video = new Video();
+        video.setUserId(1L);
+        video.setChildId(1L);
+        video.setOriginalVideoUrl("https://example.com/video.mp4");
+        video.setStatus(status);
+        if (status == VideoStatus.FAILED) {
+            video.setErrorMessage("분석 중 오류 발생");
+        }
+        return videoRepository.save(video).getVideoId();
+    }
+}